@@ -104,7 +104,7 @@ public static <T extends GridEvent, C extends IGridService> void addGridServiceE
     public static <T extends GridEvent, C> void addNodeOwnerEventHandler(Class<T> eventClass,
             Class<C> nodeOwnerClass,
             BiConsumer<C, T> eventHandler) {
-        addEventHandler(eventClass, (grid, event) -> {
+        GridEventBus.subscribe(eventClass, nodeOwnerClass, (grid, event) -> {
             for (C machine : grid.getMachines(nodeOwnerClass)) {
                 eventHandler.accept(machine, event);
             }
@@ -118,7 +118,7 @@ public static <T extends GridEvent, C> void addNodeOwnerEventHandler(Class<T> ev
     public static <T extends GridEvent, C> void addNodeOwnerEventHandler(Class<T> eventClass,
             Class<C> nodeOwnerClass,
             Consumer<C> eventHandler) {
-        addEventHandler(eventClass, (grid, event) -> {
+        GridEventBus.subscribe(eventClass, nodeOwnerClass, (grid, event) -> {
             for (C machine : grid.getMachines(nodeOwnerClass)) {
                 eventHandler.accept(machine);
             }
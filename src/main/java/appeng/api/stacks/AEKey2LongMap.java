@@ -1,8 +1,5 @@
 package appeng.api.stacks;
 
-import java.util.Comparator;
-
-import it.unimi.dsi.fastutil.objects.Object2LongAVLTreeMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 
@@ -22,10 +19,4 @@ interface AEKey2LongMap extends Object2LongMap<AEKey> {
 
     final class OpenHashMap extends Object2LongOpenHashMap<AEKey> implements AEKey2LongMap {
     }
-
-    final class AVLTreeMap extends Object2LongAVLTreeMap<AEKey> implements AEKey2LongMap {
-        public AVLTreeMap(Comparator<? super AEKey> c) {
-            super(c);
-        }
-    }
 }
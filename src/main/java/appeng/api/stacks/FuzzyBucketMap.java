@@ -0,0 +1,347 @@
+package appeng.api.stacks;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+import it.unimi.dsi.fastutil.objects.AbstractObject2LongMap;
+import it.unimi.dsi.fastutil.objects.AbstractObjectCollection;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+
+import appeng.api.config.FuzzyMode;
+
+/**
+ * Stores the variants of a single damageable item, bucketed by their {@link AEKey#getFuzzySearchValue() damage value}.
+ * <p/>
+ * Point lookups only hash into the bucket for the damage value of the key, while durability ranges are selected by
+ * binary searching the sorted array of damage values present in the map. Neither requires comparing keys against each
+ * other like the tree map previously used for fuzzy search did.
+ * <p/>
+ * Entries are iterated from most damaged to least damaged.
+ */
+final class FuzzyBucketMap extends AbstractObject2LongMap<AEKey> implements AEKey2LongMap {
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * The damage values of {@link #buckets} in ascending order. Only the first {@link #bucketCount} entries are used.
+     */
+    private int[] damageValues;
+    private AEKey2LongMap.OpenHashMap[] buckets;
+    private int bucketCount;
+    private int size;
+
+    private ObjectSet<Object2LongMap.Entry<AEKey>> entries;
+
+    public FuzzyBucketMap() {
+        this.damageValues = new int[INITIAL_CAPACITY];
+        this.buckets = new AEKey2LongMap.OpenHashMap[INITIAL_CAPACITY];
+    }
+
+    private FuzzyBucketMap(FuzzyBucketMap other) {
+        this.damageValues = Arrays.copyOf(other.damageValues, other.damageValues.length);
+        this.buckets = new AEKey2LongMap.OpenHashMap[other.buckets.length];
+        for (var i = 0; i < other.bucketCount; i++) {
+            this.buckets[i] = (AEKey2LongMap.OpenHashMap) other.buckets[i].clone();
+        }
+        this.bucketCount = other.bucketCount;
+        this.size = other.size;
+        this.defRetValue = other.defRetValue;
+    }
+
+    public FuzzyBucketMap copy() {
+        return new FuzzyBucketMap(this);
+    }
+
+    /**
+     * Returns a live view of all entries within the durability range selected by the given key and fuzzy mode.
+     */
+    public Collection<Object2LongMap.Entry<AEKey>> findFuzzy(AEKey key, FuzzyMode fuzzy) {
+        return new RangeView(FuzzySearch.getLowerDamage(key, fuzzy), FuzzySearch.getUpperDamage(key, fuzzy));
+    }
+
+    /**
+     * Equivalent to <code>!findFuzzy(key, fuzzy).isEmpty()</code>, but without allocating a view.
+     */
+    public boolean containsFuzzy(AEKey key, FuzzyMode fuzzy) {
+        var from = firstIndexAbove(FuzzySearch.getUpperDamage(key, fuzzy));
+        var to = firstIndexAbove(FuzzySearch.getLowerDamage(key, fuzzy));
+        for (var i = from; i < to; i++) {
+            if (!buckets[i].isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void defaultReturnValue(long rv) {
+        super.defaultReturnValue(rv);
+        for (var i = 0; i < bucketCount; i++) {
+            buckets[i].defaultReturnValue(rv);
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object k) {
+        var bucket = getBucket(k);
+        return bucket != null && bucket.containsKey(k);
+    }
+
+    @Override
+    public long getLong(Object k) {
+        var bucket = getBucket(k);
+        return bucket != null ? bucket.getLong(k) : defRetValue;
+    }
+
+    @Override
+    public long getOrDefault(Object k, long defaultValue) {
+        var bucket = getBucket(k);
+        return bucket != null ? bucket.getOrDefault(k, defaultValue) : defaultValue;
+    }
+
+    @Override
+    public long put(AEKey k, long v) {
+        var bucket = getOrCreateBucket(k.getFuzzySearchValue());
+        var sizeBefore = bucket.size();
+        var oldValue = bucket.put(k, v);
+        size += bucket.size() - sizeBefore;
+        return oldValue;
+    }
+
+    @Override
+    public long addTo(AEKey k, long incr) {
+        var bucket = getOrCreateBucket(k.getFuzzySearchValue());
+        var sizeBefore = bucket.size();
+        var oldValue = bucket.addTo(k, incr);
+        size += bucket.size() - sizeBefore;
+        return oldValue;
+    }
+
+    @Override
+    public long removeLong(Object k) {
+        if (!(k instanceof AEKey key)) {
+            return defRetValue;
+        }
+
+        var index = indexOf(key.getFuzzySearchValue());
+        if (index < 0) {
+            return defRetValue;
+        }
+
+        var bucket = buckets[index];
+        var sizeBefore = bucket.size();
+        var oldValue = bucket.removeLong(k);
+        if (bucket.size() != sizeBefore) {
+            size--;
+            if (bucket.isEmpty()) {
+                removeBucket(index);
+            }
+        }
+        return oldValue;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(buckets, 0, bucketCount, null);
+        bucketCount = 0;
+        size = 0;
+    }
+
+    @Override
+    public ObjectSet<Object2LongMap.Entry<AEKey>> object2LongEntrySet() {
+        if (entries == null) {
+            entries = new EntrySet();
+        }
+        return entries;
+    }
+
+    private AEKey2LongMap.OpenHashMap getBucket(Object k) {
+        if (!(k instanceof AEKey key)) {
+            return null;
+        }
+        var index = indexOf(key.getFuzzySearchValue());
+        return index >= 0 ? buckets[index] : null;
+    }
+
+    private AEKey2LongMap.OpenHashMap getOrCreateBucket(int damage) {
+        var index = indexOf(damage);
+        if (index >= 0) {
+            return buckets[index];
+        }
+
+        if (bucketCount == buckets.length) {
+            // Buckets emptied through iterators are only dropped here, to avoid growing needlessly
+            purgeEmptyBuckets();
+            if (bucketCount == buckets.length) {
+                damageValues = Arrays.copyOf(damageValues, bucketCount * 2);
+                buckets = Arrays.copyOf(buckets, bucketCount * 2);
+            }
+            index = indexOf(damage);
+        }
+
+        var insertAt = -index - 1;
+        System.arraycopy(damageValues, insertAt, damageValues, insertAt + 1, bucketCount - insertAt);
+        System.arraycopy(buckets, insertAt, buckets, insertAt + 1, bucketCount - insertAt);
+
+        var bucket = new AEKey2LongMap.OpenHashMap();
+        bucket.defaultReturnValue(defRetValue);
+        damageValues[insertAt] = damage;
+        buckets[insertAt] = bucket;
+        bucketCount++;
+        return bucket;
+    }
+
+    private void removeBucket(int index) {
+        var tail = bucketCount - index - 1;
+        System.arraycopy(damageValues, index + 1, damageValues, index, tail);
+        System.arraycopy(buckets, index + 1, buckets, index, tail);
+        buckets[--bucketCount] = null;
+    }
+
+    private void purgeEmptyBuckets() {
+        var kept = 0;
+        for (var i = 0; i < bucketCount; i++) {
+            if (!buckets[i].isEmpty()) {
+                damageValues[kept] = damageValues[i];
+                buckets[kept++] = buckets[i];
+            }
+        }
+        Arrays.fill(buckets, kept, bucketCount, null);
+        bucketCount = kept;
+    }
+
+    private int indexOf(int damage) {
+        return Arrays.binarySearch(damageValues, 0, bucketCount, damage);
+    }
+
+    /**
+     * @return The index of the first bucket whose damage value is strictly greater than the given damage value.
+     */
+    private int firstIndexAbove(int damage) {
+        var low = 0;
+        var high = bucketCount;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (damageValues[mid] <= damage) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private final class EntrySet extends AbstractObjectSet<Object2LongMap.Entry<AEKey>> {
+        @Override
+        public ObjectIterator<Object2LongMap.Entry<AEKey>> iterator() {
+            return new EntryIterator(0, bucketCount);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            FuzzyBucketMap.this.clear();
+        }
+    }
+
+    /**
+     * Selects the entries with a damage value in <code>(upperDamage, lowerDamage]</code>. See {@link FuzzySearch} for
+     * why the lower bound is the higher number. The bucket range is resolved lazily, so the view stays live.
+     */
+    private final class RangeView extends AbstractObjectCollection<Object2LongMap.Entry<AEKey>> {
+        private final int lowerDamage;
+        private final int upperDamage;
+
+        private RangeView(int lowerDamage, int upperDamage) {
+            this.lowerDamage = lowerDamage;
+            this.upperDamage = upperDamage;
+        }
+
+        @Override
+        public ObjectIterator<Object2LongMap.Entry<AEKey>> iterator() {
+            return new EntryIterator(firstIndexAbove(upperDamage), firstIndexAbove(lowerDamage));
+        }
+
+        @Override
+        public int size() {
+            var result = 0;
+            for (var i = firstIndexAbove(upperDamage); i < firstIndexAbove(lowerDamage); i++) {
+                result += buckets[i].size();
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            for (var i = firstIndexAbove(upperDamage); i < firstIndexAbove(lowerDamage); i++) {
+                if (!buckets[i].isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Iterates the buckets in <code>[from, to)</code> in descending order of damage.
+     */
+    private final class EntryIterator implements ObjectIterator<Object2LongMap.Entry<AEKey>> {
+        private final int from;
+        private int bucketIndex;
+        private ObjectIterator<Object2LongMap.Entry<AEKey>> current;
+        private ObjectIterator<Object2LongMap.Entry<AEKey>> last;
+
+        private EntryIterator(int from, int to) {
+            this.from = from;
+            this.bucketIndex = to;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (current == null || !current.hasNext()) {
+                if (bucketIndex <= from) {
+                    return false;
+                }
+                current = buckets[--bucketIndex].object2LongEntrySet().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Object2LongMap.Entry<AEKey> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = current;
+            return current.next();
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            // Emptied buckets are kept until the next purge, since removing them would shift our indices
+            last.remove();
+            last = null;
+            size--;
+        }
+    }
+}
@@ -21,19 +21,13 @@ private FuzzySearch() {
     }
 
     /**
-     * Creates a map that is searchable via {@link #findFuzzy}.
+     * Creates a map that is searchable via {@link #findFuzzy}. Counters use the more specialized
+     * {@link FuzzyBucketMap} instead.
      */
     public static <K extends AEKey, V> Object2ObjectSortedMap<K, V> createMap() {
         return new Object2ObjectAVLTreeMap<>(COMPARATOR);
     }
 
-    /**
-     * Creates a map that is searchable via {@link #findFuzzy}.
-     */
-    public static AEKey2LongMap.AVLTreeMap createMap2Long() {
-        return new AEKey2LongMap.AVLTreeMap(COMPARATOR);
-    }
-
     /**
      * Does a fuzzy search. The map must have been created using {@link #createMap}.
      */
@@ -123,38 +117,46 @@ public int compare(Object a, Object b) {
      * higher number than the upper bound.
      */
     static FuzzyBound makeLowerBound(AEKey key, FuzzyMode fuzzy) {
+        return new FuzzyBound(getLowerDamage(key, fuzzy));
+    }
+
+    /*
+     * Keep in mind that the stack order is from most damaged to least damaged, so this upper bound will actually be a
+     * lower number than the lower bound. It also is exclusive.
+     */
+    static FuzzyBound makeUpperBound(AEKey key, FuzzyMode fuzzy) {
+        return new FuzzyBound(getUpperDamage(key, fuzzy));
+    }
+
+    /**
+     * @return The inclusive, highest damage value selected by the given key and fuzzy mode.
+     */
+    static int getLowerDamage(AEKey key, FuzzyMode fuzzy) {
         var maxValue = key.getFuzzySearchMaxValue();
         Preconditions.checkState(maxValue > 0, "Cannot use fuzzy search on keys that don't have a fuzzy max value: %s",
                 key);
 
-        int damage;
         if (fuzzy == FuzzyMode.IGNORE_ALL) {
-            damage = maxValue;
+            return maxValue;
         } else {
             var breakpoint = fuzzy.calculateBreakPoint(maxValue);
-            damage = key.getFuzzySearchValue() <= breakpoint ? breakpoint : maxValue;
+            return key.getFuzzySearchValue() <= breakpoint ? breakpoint : maxValue;
         }
-
-        return new FuzzyBound(damage);
     }
 
-    /*
-     * Keep in mind that the stack order is from most damaged to least damaged, so this upper bound will actually be a
-     * lower number than the lower bound. It also is exclusive.
+    /**
+     * @return The exclusive, lowest damage value selected by the given key and fuzzy mode.
      */
-    static FuzzyBound makeUpperBound(AEKey key, FuzzyMode fuzzy) {
+    static int getUpperDamage(AEKey key, FuzzyMode fuzzy) {
         var maxValue = key.getFuzzySearchMaxValue();
         Preconditions.checkState(maxValue > 0, "Cannot use fuzzy search on keys that don't have a fuzzy max value: %s",
                 key);
 
-        int damage;
         if (fuzzy == FuzzyMode.IGNORE_ALL) {
-            damage = MIN_DAMAGE_VALUE;
+            return MIN_DAMAGE_VALUE;
         } else {
-            final var breakpoint = fuzzy.calculateBreakPoint(maxValue);
-            damage = key.getFuzzySearchValue() <= breakpoint ? MIN_DAMAGE_VALUE : breakpoint;
+            var breakpoint = fuzzy.calculateBreakPoint(maxValue);
+            return key.getFuzzySearchValue() <= breakpoint ? MIN_DAMAGE_VALUE : breakpoint;
         }
-
-        return new FuzzyBound(damage);
     }
 }
@@ -53,6 +53,16 @@ public Collection<Object2LongMap.Entry<AEKey>> findFuzzy(AEKey key, FuzzyMode fu
         return subIndex == null ? List.of() : subIndex.findFuzzy(key, fuzzy);
     }
 
+    /**
+     * Checks if {@link #findFuzzy} would return any entries for the given key and fuzzy mode, without allocating a
+     * result.
+     */
+    public boolean containsFuzzy(AEKey key, FuzzyMode fuzzy) {
+        Objects.requireNonNull(key, "key");
+        var subIndex = getSubIndexOrNull(key);
+        return subIndex != null && subIndex.containsFuzzy(key, fuzzy);
+    }
+
     public void removeZeros() {
         var iterator = lists.entrySet().iterator();
         while (iterator.hasNext()) {
@@ -5,7 +5,6 @@
 import java.util.NoSuchElementException;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongSortedMap;
 
 import appeng.api.config.FuzzyMode;
 
@@ -56,6 +55,11 @@ public void removeAll(VariantCounter other) {
 
     public abstract Collection<Object2LongMap.Entry<AEKey>> findFuzzy(AEKey filter, FuzzyMode fuzzy);
 
+    /**
+     * Checks if {@link #findFuzzy} would return any entries, without allocating a result.
+     */
+    public abstract boolean containsFuzzy(AEKey filter, FuzzyMode fuzzy);
+
     public int size() {
         if (!dropZeros) {
             return getRecords().size();
@@ -188,6 +192,11 @@ public Collection<Object2LongMap.Entry<AEKey>> findFuzzy(AEKey filter, FuzzyMode
             return records.object2LongEntrySet();
         }
 
+        @Override
+        public boolean containsFuzzy(AEKey filter, FuzzyMode fuzzy) {
+            return !records.isEmpty();
+        }
+
         @Override
         AEKey2LongMap getRecords() {
             return records;
@@ -206,12 +215,24 @@ public VariantCounter copy() {
      * {@link #findFuzzy}.
      */
     static class FuzzyVariantMap extends VariantCounter {
-        private final AEKey2LongMap.AVLTreeMap records = FuzzySearch.createMap2Long();
+        private final FuzzyBucketMap records;
+
+        FuzzyVariantMap() {
+            this(new FuzzyBucketMap());
+        }
+
+        private FuzzyVariantMap(FuzzyBucketMap records) {
+            this.records = records;
+        }
 
         @Override
         public Collection<Object2LongMap.Entry<AEKey>> findFuzzy(AEKey key, FuzzyMode fuzzy) {
-            // The cast is necessary because the subMap in the call is not an instance of AEKey2LongMap.AVLTreeMap!
-            return FuzzySearch.findFuzzy((Object2LongSortedMap<AEKey>) records, key, fuzzy).object2LongEntrySet();
+            return records.findFuzzy(key, fuzzy);
+        }
+
+        @Override
+        public boolean containsFuzzy(AEKey key, FuzzyMode fuzzy) {
+            return records.containsFuzzy(key, fuzzy);
         }
 
         @Override
@@ -221,9 +242,7 @@ AEKey2LongMap getRecords() {
 
         @Override
         public VariantCounter copy() {
-            var result = new FuzzyVariantMap();
-            result.records.putAll(records);
-            return result;
+            return new FuzzyVariantMap(records.copy());
         }
     }
 }
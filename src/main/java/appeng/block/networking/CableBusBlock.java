@@ -196,6 +196,9 @@ public void neighborChanged(BlockState state, Level level, BlockPos pos, Block b
             boolean isMoving) {
         if (!level.isClientSide()) {
             this.cb(level, pos).onNeighborChanged(level, pos, fromPos);
+        } else if (level.getBlockEntity(pos) instanceof CableBusBlockEntity cableBus) {
+            // The neighbor may affect how our outgoing connections are rendered
+            cableBus.getCableBus().invalidateRenderState();
         }
     }
 
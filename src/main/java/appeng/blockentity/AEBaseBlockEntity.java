@@ -267,26 +267,50 @@ protected void saveVisualState(CompoundTag data) {
     protected void loadVisualState(CompoundTag data) {
     }
 
+    /**
+     * Updates the block state from this block entity and requests sending its state to clients. The block state is
+     * always updated immediately. On the server, repeated requests to send the block entity within a tick are
+     * coalesced into a single update at the end of the level tick.
+     */
     public void markForUpdate() {
-        // TODO: Optimize Network Load
         if (this.level != null && !this.isRemoved() && !notLoaded()) {
-
-            boolean alreadyUpdated = false;
-            // Let the block update its own state with our internal state changes
-            BlockState currentState = getBlockState();
-            if (currentState.getBlock() instanceof AEBaseEntityBlock<?>block) {
-                BlockState newState = block.getBlockEntityBlockState(currentState, this);
-                if (currentState != newState) {
-                    AELog.blockUpdate(this.worldPosition, currentState, newState, this);
-                    this.level.setBlockAndUpdate(worldPosition, newState);
-                    alreadyUpdated = true;
+            // A changed block state is already sent to clients together with this block entity
+            if (!updateBlockState()) {
+                if (!this.level.isClientSide()) {
+                    TickHandler.instance().addBlockEntityUpdate(this);
+                } else {
+                    sendClientUpdate();
                 }
             }
+        }
+    }
 
-            if (!alreadyUpdated) {
-                this.level.sendBlockUpdated(this.worldPosition, currentState, currentState, Block.UPDATE_NEIGHBORS);
+    /**
+     * Marks this block entity for being sent to clients, without updating its block state.
+     */
+    public void sendClientUpdate() {
+        if (this.level != null && !this.isRemoved() && !notLoaded()) {
+            BlockState currentState = getBlockState();
+            this.level.sendBlockUpdated(this.worldPosition, currentState, currentState, Block.UPDATE_NEIGHBORS);
+        }
+    }
+
+    /**
+     * Lets the block update its own state with our internal state changes.
+     *
+     * @return True if the block state changed.
+     */
+    private boolean updateBlockState() {
+        BlockState currentState = getBlockState();
+        if (currentState.getBlock() instanceof AEBaseEntityBlock<?>block) {
+            BlockState newState = block.getBlockEntityBlockState(currentState, this);
+            if (currentState != newState) {
+                AELog.blockUpdate(this.worldPosition, currentState, newState, this);
+                this.level.setBlockAndUpdate(worldPosition, newState);
+                return true;
             }
         }
+        return false;
     }
 
     /**
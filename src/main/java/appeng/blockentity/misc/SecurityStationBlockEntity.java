@@ -53,6 +53,7 @@
 import appeng.api.util.IConfigManager;
 import appeng.blockentity.grid.AENetworkBlockEntity;
 import appeng.items.tools.BiometricCardItem;
+import appeng.me.service.SecurityService;
 import appeng.me.storage.SecurityStationInventory;
 import appeng.menu.ISubMenu;
 import appeng.menu.MenuOpener;
@@ -185,6 +186,11 @@ public void onMainNodeStateChanged(IGridNodeListener.State reason) {
         if (reason != IGridNodeListener.State.GRID_BOOT) {
             this.markForUpdate();
         }
+        // Whether security is enabled depends on the node being active
+        var grid = getMainNode().getGrid();
+        if (grid != null) {
+            ((SecurityService) grid.getSecurityService()).invalidatePermissionCaches();
+        }
     }
 
     @Override
@@ -88,6 +88,7 @@ protected boolean readFromStream(FriendlyByteBuf data) {
         }
 
         this.updateBlockEntitySettings();
+        this.invalidateAdjacentRenderStates();
         return ret || c;
     }
 
@@ -104,16 +105,36 @@ protected void updateBlockEntitySettings() {
         // FIXME: potentially invalidate voxel shape cache?
     }
 
+    /**
+     * The render state of adjacent cable buses depends on this cable bus, but the client won't otherwise tell them when
+     * it changes.
+     */
+    private void invalidateAdjacentRenderStates() {
+        if (this.level == null || !this.level.isClientSide()) {
+            return;
+        }
+
+        for (var side : Direction.values()) {
+            var adjacentPos = this.worldPosition.relative(side);
+            if (this.level.hasChunkAt(adjacentPos)
+                    && this.level.getBlockEntity(adjacentPos) instanceof CableBusBlockEntity adjacent) {
+                adjacent.getCableBus().invalidateRenderState();
+            }
+        }
+    }
+
     @Override
     public void setRemoved() {
         super.setRemoved();
         this.getCableBus().removeFromWorld();
+        this.invalidateAdjacentRenderStates();
     }
 
     @Override
     public void clearRemoved() {
         super.clearRemoved();
         scheduleInit(); // Required for onReady to be called
+        this.invalidateAdjacentRenderStates();
     }
 
     @Override
@@ -291,10 +312,7 @@ public CableBusRenderState getRenderAttachmentData() {
             return null;
         }
 
-        CableBusRenderState renderState = this.cb.getRenderState();
-        renderState.setPos(getBlockPos());
-        return renderState;
-
+        return this.cb.getRenderState();
     }
 
     @Override
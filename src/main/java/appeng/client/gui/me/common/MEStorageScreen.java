@@ -60,6 +60,7 @@
 import appeng.client.gui.widgets.SettingToggleButton;
 import appeng.client.gui.widgets.TabButton;
 import appeng.client.gui.widgets.UpgradesPanel;
+import appeng.client.render.AmountTextCache;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.localization.ButtonToolTips;
@@ -470,7 +471,7 @@ public void renderSlot(PoseStack poseStack, Slot s) {
                 
                 AmountFormat format = useLargeFonts ? AmountFormat.SLOT_LARGE_FONT
                         : AmountFormat.SLOT;
-                var text = entry.getWhat().formatAmount(storedAmount, format);
+                var text = AmountTextCache.get(entry.getWhat(), storedAmount, format);
                 StackSizeRenderer.renderSizeLabel(this.font, s.x, s.y, text, useLargeFonts);
                 
             }
@@ -33,6 +33,7 @@
 
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 
 import appeng.api.config.SortDir;
 import appeng.api.config.SortOrder;
@@ -63,6 +64,8 @@ public class Repo implements IClientRepo {
     private int rowSize = 9;
 
     private final BiMap<Long, GridInventoryEntry> entries = HashBiMap.create();
+    // Stored amount per key of all entries, kept up to date with the entries for fast availability checks
+    private final Object2LongOpenHashMap<AEKey> storedAmounts = new Object2LongOpenHashMap<>();
     private final ArrayList<GridInventoryEntry> view = new ArrayList<>();
     private final ArrayList<GridInventoryEntry> pinnedRow = new ArrayList<>();
     private final RepoSearch search = new RepoSearch();
@@ -100,7 +103,7 @@ private void handleUpdate(GridInventoryEntry serverEntry) {
                 return;
             }
             if (serverEntry.isMeaningful()) {
-                entries.put(serverEntry.getSerial(), serverEntry);
+                putEntry(serverEntry, null);
             }
             return;
         }
@@ -108,14 +111,29 @@ private void handleUpdate(GridInventoryEntry serverEntry) {
         // Update the local entry
         if (!serverEntry.isMeaningful()) {
             entries.remove(serverEntry.getSerial());
+            updateStoredAmount(localEntry.getWhat(), -localEntry.getStoredAmount());
         } else if (serverEntry.getWhat() == null) {
-            entries.put(serverEntry.getSerial(), new GridInventoryEntry(
+            putEntry(new GridInventoryEntry(
                     serverEntry.getSerial(),
                     localEntry.getWhat(),
                     serverEntry.getStoredAmount(),
-                    serverEntry.getRequestableAmount()));
+                    serverEntry.getRequestableAmount()), localEntry);
         } else {
-            entries.put(serverEntry.getSerial(), serverEntry);
+            putEntry(serverEntry, localEntry);
+        }
+    }
+
+    private void putEntry(GridInventoryEntry entry, @Nullable GridInventoryEntry previousEntry) {
+        entries.put(entry.getSerial(), entry);
+        if (previousEntry != null) {
+            updateStoredAmount(previousEntry.getWhat(), -previousEntry.getStoredAmount());
+        }
+        updateStoredAmount(entry.getWhat(), entry.getStoredAmount());
+    }
+
+    private void updateStoredAmount(AEKey what, long delta) {
+        if (delta != 0 && storedAmounts.addTo(what, delta) + delta <= 0) {
+            storedAmounts.removeLong(what);
         }
     }
 
@@ -277,6 +295,7 @@ public final int size() {
 
     public final void clear() {
         this.entries.clear();
+        this.storedAmounts.clear();
         this.view.clear();
         this.pinnedRow.clear();
     }
@@ -324,6 +343,11 @@ public Set<GridInventoryEntry> getAllEntries() {
         return entries.values();
     }
 
+    @Override
+    public long getStoredAmount(AEKey what) {
+        return storedAmounts.getLong(what);
+    }
+
     public final void setUpdateViewListener(Runnable updateViewListener) {
         this.updateViewListener = updateViewListener;
     }
@@ -29,6 +29,8 @@
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.MultiBufferSource.BufferSource;
 
+import appeng.client.render.AmountTextCache;
+import appeng.client.render.AmountTextCache.AmountText;
 import appeng.core.AEConfig;
 
 /**
@@ -38,28 +40,50 @@
  * @since rv0
  */
 public class StackSizeRenderer {
+    // Taken from ItemRenderer.renderItemOverlayIntoGUI
+    private static final Matrix4f SMALL_FONT_MATRIX = createMatrix(0.5f);
+    private static final Matrix4f LARGE_FONT_MATRIX = createMatrix(0.85f);
+
+    private static Matrix4f createMatrix(float scaleFactor) {
+        return new Transformation(new Vector3f(0, 0, 300), null,
+                new Vector3f(scaleFactor, scaleFactor, scaleFactor), null).getMatrix();
+    }
+
     public static void renderSizeLabel(Font fontRenderer, float xPos, float yPos, String text) {
         renderSizeLabel(fontRenderer, xPos, yPos, text, AEConfig.instance().isUseLargeFonts());
     }
 
     public static void renderSizeLabel(Font fontRenderer, float xPos, float yPos, String text, boolean largeFonts) {
-        final float scaleFactor = largeFonts ? 0.85f : 0.5f;
+        renderSizeLabel(fontRenderer, xPos, yPos, text, fontRenderer.width(text), largeFonts);
+    }
 
-        Transformation tm = new Transformation(new Vector3f(0, 0, 300), // Taken from
-                // ItemRenderer.renderItemOverlayIntoGUI
-                null, new Vector3f(scaleFactor, scaleFactor, scaleFactor), null);
+    /**
+     * Renders an amount formatted by {@link AmountTextCache}, whose width is already known.
+     */
+    public static void renderSizeLabel(Font fontRenderer, float xPos, float yPos, AmountText text,
+            boolean largeFonts) {
+        renderSizeLabel(fontRenderer, xPos, yPos, text.text(), text.width(), largeFonts);
+    }
 
-        renderSizeLabel(tm.getMatrix(), fontRenderer, xPos, yPos, text, false);
+    private static void renderSizeLabel(Font fontRenderer, float xPos, float yPos, String text, int textWidth,
+            boolean largeFonts) {
+        var matrix = largeFonts ? LARGE_FONT_MATRIX : SMALL_FONT_MATRIX;
+        renderSizeLabel(matrix, fontRenderer, xPos, yPos, text, textWidth, false);
     }
 
     public static void renderSizeLabel(Matrix4f matrix, Font fontRenderer, float xPos, float yPos, String text,
             boolean largeFonts) {
+        renderSizeLabel(matrix, fontRenderer, xPos, yPos, text, fontRenderer.width(text), largeFonts);
+    }
+
+    private static void renderSizeLabel(Matrix4f matrix, Font fontRenderer, float xPos, float yPos, String text,
+            int textWidth, boolean largeFonts) {
         final float scaleFactor = largeFonts ? 0.85f : 0.5f;
         final float inverseScaleFactor = 1.0f / scaleFactor;
         final int offset = largeFonts ? 0 : -1;
 
         RenderSystem.disableBlend();
-        final int X = (int) ((xPos + offset + 16.0f - fontRenderer.width(text) * scaleFactor)
+        final int X = (int) ((xPos + offset + 16.0f - textWidth * scaleFactor)
                 * inverseScaleFactor);
         final int Y = (int) ((yPos + offset + 16.0f - 7.0f * scaleFactor) * inverseScaleFactor);
         BufferSource buffer = MultiBufferSource.immediate(Tesselator.getInstance().getBuilder());
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.client.render;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.server.packs.resources.ReloadableResourceManager;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.AEKeyType;
+import appeng.api.stacks.AmountFormat;
+
+/**
+ * Caches the formatted amounts rendered by terminal slots and storage monitors every frame, together with their width
+ * in the default font. Amounts are formatted by their key type, so the cache is shared by all keys of the same type.
+ * <p/>
+ * Only used from the render thread.
+ */
+public final class AmountTextCache {
+    /**
+     * The number of amounts cached per key type and format. The least recently rendered amount is evicted first.
+     */
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final Map<AEKeyType, Long2ObjectLinkedOpenHashMap<AmountText>[]> CACHE = new IdentityHashMap<>();
+
+    private AmountTextCache() {
+    }
+
+    public static void initialize(ResourceManager resourceManager) {
+        // The width of the text depends on the font of the current resource packs
+        if (resourceManager instanceof ReloadableResourceManager reloadableResourceManager) {
+            reloadableResourceManager.registerReloadListener((ResourceManagerReloadListener) rm -> clear());
+        }
+    }
+
+    public static AmountText get(AEKey what, long amount, AmountFormat format) {
+        var byFormat = CACHE.computeIfAbsent(what.getType(), AmountTextCache::createCaches);
+        var cache = byFormat[format.ordinal()];
+
+        var result = cache.getAndMoveToLast(amount);
+        if (result == null) {
+            var text = what.formatAmount(amount, format);
+            result = new AmountText(text, Minecraft.getInstance().font.width(text));
+            if (cache.size() >= MAX_ENTRIES) {
+                cache.removeFirst();
+            }
+            cache.putAndMoveToLast(amount, result);
+        }
+        return result;
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Long2ObjectLinkedOpenHashMap<AmountText>[] createCaches(AEKeyType keyType) {
+        var result = new Long2ObjectLinkedOpenHashMap[AmountFormat.values().length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new Long2ObjectLinkedOpenHashMap<AmountText>();
+        }
+        return result;
+    }
+
+    /**
+     * @param width The width of the text in the default font, in unscaled pixels.
+     */
+    public record AmountText(String text, int width) {
+    }
+}
@@ -24,6 +24,7 @@
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.LightTexture;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 
 import appeng.api.client.AEStackRendering;
@@ -90,6 +91,20 @@ public static void renderItem2d(PoseStack poseStack,
                 combinedLightIn);
     }
 
+    /**
+     * Checks whether the camera is in front of the outer face of a block on the given side. Anything rendered flat
+     * onto that face can't be seen otherwise.
+     */
+    public static boolean isFaceVisible(BlockPos pos, Direction side) {
+        var camera = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+        var faceX = pos.getX() + 0.5 + 0.5 * side.getStepX();
+        var faceY = pos.getY() + 0.5 + 0.5 * side.getStepY();
+        var faceZ = pos.getZ() + 0.5 + 0.5 * side.getStepZ();
+        return (camera.x - faceX) * side.getStepX()
+                + (camera.y - faceY) * side.getStepY()
+                + (camera.z - faceZ) * side.getStepZ() > 0;
+    }
+
     /**
      * Render an item in 2D and the given text below it.
      *
@@ -104,17 +119,17 @@ public static void renderItem2dWithAmount(PoseStack poseStack,
             int textColor) {
         renderItem2d(poseStack, buffers, what, itemScale, LightTexture.FULL_BRIGHT);
 
-        var renderedStackSize = what.formatAmount(amount, AmountFormat.SLOT);
+        var renderedStackSize = AmountTextCache.get(what, amount, AmountFormat.SLOT);
 
         // Render the item count
         var fr = Minecraft.getInstance().font;
-        var width = fr.width(renderedStackSize);
+        var width = renderedStackSize.width();
         poseStack.pushPose();
         poseStack.translate(0.0f, spacing, 0.02f);
         poseStack.scale(1.0f / 62.0f, -1.0f / 62.0f, 1.0f / 62.0f);
         poseStack.scale(0.5f, 0.5f, 0);
         poseStack.translate(-0.5f * width, 0.0f, 0.5f);
-        fr.drawInBatch(renderedStackSize, 0, 0, textColor, false, poseStack.last().pose(), buffers, false, 0,
+        fr.drawInBatch(renderedStackSize.text(), 0, 0, textColor, false, poseStack.last().pose(), buffers, false, 0,
                 LightTexture.FULL_BRIGHT);
         poseStack.popPose();
 
@@ -20,18 +20,18 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
+import com.google.common.cache.CacheStats;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -61,6 +61,7 @@
 import appeng.api.parts.IPartModel;
 import appeng.api.util.AECableType;
 import appeng.api.util.AEColor;
+import appeng.core.AEConfig;
 import appeng.parts.reporting.ReportingModelData;
 
 @Environment(EnvType.CLIENT)
@@ -71,8 +72,16 @@ public class CableBusBakedModel implements BakedModel, FabricBakedModel {
 
     private static final Renderer RENDERER = RendererAccess.INSTANCE.getRenderer();
 
-    // The number of meshes overall that will be cached
-    private static final int CACHE_MESH_COUNT = 100;
+    /**
+     * Cable meshes by the part of the render state that affects them. Chunks are meshed on several threads, which the
+     * cache supports by loading different keys concurrently. It is shared by all instances of the model and cleared
+     * whenever the model is baked again, since the meshes reference sprites of the previous atlas.
+     */
+    private static final Cache<CableBusRenderState.CableKey, Mesh> CABLE_MESH_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(AEConfig.instance().getCableMeshCacheSize())
+            .concurrencyLevel(Math.max(4, Runtime.getRuntime().availableProcessors()))
+            .recordStats()
+            .build();
 
     /**
      * Lookup table to match the spin of a part with an up direction.
@@ -88,8 +97,6 @@ public class CableBusBakedModel implements BakedModel, FabricBakedModel {
             Direction.UP, Direction.NORTH, Direction.DOWN, Direction.SOUTH // EAST
     };
 
-    private final LoadingCache<CableBusRenderState, Mesh> cableModelCache;
-
     private final CableBuilder cableBuilder;
 
     private final Map<ResourceLocation, BakedModel> partModels;
@@ -101,15 +108,27 @@ public class CableBusBakedModel implements BakedModel, FabricBakedModel {
         this.cableBuilder = cableBuilder;
         this.partModels = partModels;
         this.particleTexture = particleTexture;
-        this.cableModelCache = CacheBuilder.newBuilder()//
-                .maximumSize(CACHE_MESH_COUNT)//
-                .build(new CacheLoader<CableBusRenderState, Mesh>() {
-                    @Override
-                    public Mesh load(CableBusRenderState renderState) {
-                        Mesh mesh = buildCableModel(renderState);
-                        return mesh != null ? mesh : EMPTY_MESH;
-                    }
-                });
+        CABLE_MESH_CACHE.invalidateAll();
+    }
+
+    /**
+     * @return The size of the cable mesh cache and its hit, miss and eviction counts.
+     */
+    public static String getCableMeshCacheDebugInfo() {
+        CacheStats stats = CABLE_MESH_CACHE.stats();
+        return String.format("AE2 cable meshes: %d cached, %.1f%% hits, %d misses, %d evicted",
+                CABLE_MESH_CACHE.size(), stats.hitRate() * 100, stats.missCount(), stats.evictionCount());
+    }
+
+    private Mesh getCableMesh(CableBusRenderState.CableKey cableKey) {
+        try {
+            return CABLE_MESH_CACHE.get(cableKey, () -> {
+                Mesh mesh = buildCableModel(cableKey);
+                return mesh != null ? mesh : EMPTY_MESH;
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to build cable mesh", e.getCause());
+        }
     }
 
     @Override
@@ -139,7 +158,7 @@ public void emitBlockQuads(BlockAndTintGetter blockView, BlockState state, Block
         }
 
         // First, handle the cable at the center of the cable bus
-        final Mesh cableModel = cableModelCache.getUnchecked(renderState);
+        final Mesh cableModel = getCableMesh(renderState.getCableKey());
         if (cableModel != EMPTY_MESH) {
             context.meshConsumer().accept(cableModel);
         }
@@ -178,7 +197,7 @@ public void emitBlockQuads(BlockAndTintGetter blockView, BlockState state, Block
 
     // Determines whether a cable is connected to exactly two sides that are
     // opposite each other
-    private static boolean isStraightLine(AECableType cableType, EnumMap<Direction, AECableType> sides) {
+    private static boolean isStraightLine(AECableType cableType, Map<Direction, AECableType> sides) {
         final Iterator<Entry<Direction, AECableType>> it = sides.entrySet().iterator();
         if (!it.hasNext()) {
             return false; // No connections
@@ -212,14 +231,14 @@ private static Direction getPartSpin(Direction facing, Object partModelData) {
         return Direction.UP;
     }
 
-    private Mesh buildCableModel(CableBusRenderState renderState) {
-        AECableType cableType = renderState.getCableType();
+    private Mesh buildCableModel(CableBusRenderState.CableKey cableKey) {
+        AECableType cableType = cableKey.getCableType();
         if (cableType == AECableType.NONE) {
             return null;
         }
 
-        AEColor cableColor = renderState.getCableColor();
-        EnumMap<Direction, AECableType> connectionTypes = renderState.getConnectionTypes();
+        AEColor cableColor = cableKey.getCableColor();
+        Map<Direction, AECableType> connectionTypes = cableKey.getConnectionTypes();
 
         MeshBuilder builder = RENDERER.meshBuilder();
         QuadEmitter emitter = builder.getEmitter();
@@ -227,8 +246,7 @@ private Mesh buildCableModel(CableBusRenderState renderState) {
         // If the connection is straight, no busses are attached, and no covered core
         // has been forced (in case of glass
         // cables), then render the cable as a simplified straight line.
-        boolean noAttachments = !renderState.getAttachments().values().stream()
-                .anyMatch(IPartModel::requireCableConnection);
+        boolean noAttachments = !cableKey.isAttachmentRequiresCable();
         if (noAttachments && isStraightLine(cableType, connectionTypes)) {
             Direction facing = connectionTypes.keySet().iterator().next();
 
@@ -243,10 +261,10 @@ private Mesh buildCableModel(CableBusRenderState renderState) {
             return builder.build(); // Don't render the other form of connection
         }
 
-        this.cableBuilder.addCableCore(renderState.getCoreType(), cableColor, emitter);
+        this.cableBuilder.addCableCore(cableKey.getCoreType(), cableColor, emitter);
 
         // Render all internal connections to attachments
-        EnumMap<Direction, Integer> attachmentConnections = renderState.getAttachmentConnections();
+        Map<Direction, Integer> attachmentConnections = cableKey.getAttachmentConnections();
         for (Direction facing : attachmentConnections.keySet()) {
             int distance = attachmentConnections.get(facing);
 
@@ -263,7 +281,7 @@ private Mesh buildCableModel(CableBusRenderState renderState) {
         for (Entry<Direction, AECableType> connection : connectionTypes.entrySet()) {
             final Direction facing = connection.getKey();
             final AECableType connectionType = connection.getValue();
-            final boolean cableBusAdjacent = renderState.getCableBusAdjacent().contains(facing);
+            final boolean cableBusAdjacent = cableKey.getCableBusAdjacent().contains(facing);
 
             switch (cableType) {
                 case GLASS:
@@ -18,15 +18,17 @@
 
 package appeng.client.render.cablebus;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.world.phys.AABB;
 
 import appeng.api.parts.IPartModel;
 import appeng.api.util.AECableType;
@@ -35,21 +37,28 @@
 /**
  * This class captures the entire rendering state needed for a cable bus and transports it to the rendering thread for
  * processing.
+ * <p>
+ * Instances are immutable and interned, so cable buses that look the same share a single instance with a precomputed
+ * hash code. Use {@link #builder()} to create them.
  */
-public class CableBusRenderState {
+public final class CableBusRenderState {
+
+    private static final Interner<CableBusRenderState> INTERNER = Interners.newWeakInterner();
+
+    public static final CableBusRenderState EMPTY = builder().build();
 
     // The cable type used for rendering the outgoing connections to other blocks
     // and attached parts
-    private AECableType cableType = AECableType.NONE;
+    private final AECableType cableType;
 
     // The type to use for rendering the core of the cable.
-    private CableCoreType coreType;
+    private final CableCoreType coreType;
 
-    private AEColor cableColor = AEColor.TRANSPARENT;
+    private final AEColor cableColor;
 
     // Describes the outgoing connections of this cable bus to other blocks, and how
     // they should be rendered
-    private EnumMap<Direction, AECableType> connectionTypes = new EnumMap<>(Direction.class);
+    private final Map<Direction, AECableType> connectionTypes;
 
     // Indicate on which sides signified by connectionTypes above, there is another
     // cable bus. If a side is connected,
@@ -57,104 +66,96 @@ public class CableBusRenderState {
     // set, then it means that there is a Grid host, but not a cable bus on that
     // side (i.e. an interface, a controller,
     // etc.)
-    private EnumSet<Direction> cableBusAdjacent = EnumSet.noneOf(Direction.class);
+    private final Set<Direction> cableBusAdjacent;
 
-    private EnumMap<Direction, IPartModel> attachments = new EnumMap<>(Direction.class);
+    private final Map<Direction, IPartModel> attachments;
 
     // For each attachment, this contains the distance from the edge until which a
     // cable connection should be drawn
-    private EnumMap<Direction, Integer> attachmentConnections = new EnumMap<>(Direction.class);
-
-    // Used for Facades.
-    private BlockPos pos;
-
-    // Contains the bounding boxes of all parts on the cable bus to allow facades to
-    // cut out holes for the parts. This
-    // list is only populated if there are
-    // facades on this cable bus
-    private List<AABB> boundingBoxes = new ArrayList<>();
+    private final Map<Direction, Integer> attachmentConnections;
 
     // Additional model data passed to the part models
-    private EnumMap<Direction, Object> partModelData = new EnumMap<>(Direction.class);
+    private final Map<Direction, Object> partModelData;
+
+    private final int hashCode;
+
+    private final CableKey cableKey;
+
+    private CableBusRenderState(Builder builder) {
+        this.cableType = builder.cableType;
+        this.coreType = builder.coreType;
+        this.cableColor = builder.cableColor;
+        this.connectionTypes = Collections.unmodifiableMap(builder.connectionTypes.clone());
+        this.cableBusAdjacent = Collections.unmodifiableSet(builder.cableBusAdjacent.clone());
+        this.attachments = Collections.unmodifiableMap(builder.attachments.clone());
+        this.attachmentConnections = Collections.unmodifiableMap(builder.attachmentConnections.clone());
+        this.partModelData = Collections.unmodifiableMap(builder.partModelData.clone());
+        this.hashCode = computeHashCode();
+        this.cableKey = new CableKey(this);
+    }
 
-    public CableCoreType getCoreType() {
-        return this.coreType;
+    public static Builder builder() {
+        return new Builder();
     }
 
-    public void setCoreType(CableCoreType coreType) {
-        this.coreType = coreType;
+    public CableCoreType getCoreType() {
+        return this.coreType;
     }
 
     public AECableType getCableType() {
         return this.cableType;
     }
 
-    public void setCableType(AECableType cableType) {
-        this.cableType = cableType;
-    }
-
     public AEColor getCableColor() {
         return this.cableColor;
     }
 
-    public void setCableColor(AEColor cableColor) {
-        this.cableColor = cableColor;
-    }
-
-    public EnumMap<Direction, AECableType> getConnectionTypes() {
+    public Map<Direction, AECableType> getConnectionTypes() {
         return this.connectionTypes;
     }
 
-    public void setConnectionTypes(EnumMap<Direction, AECableType> connectionTypes) {
-        this.connectionTypes = connectionTypes;
-    }
-
-    public EnumSet<Direction> getCableBusAdjacent() {
+    public Set<Direction> getCableBusAdjacent() {
         return this.cableBusAdjacent;
     }
 
-    public void setCableBusAdjacent(EnumSet<Direction> cableBusAdjacent) {
-        this.cableBusAdjacent = cableBusAdjacent;
-    }
-
-    public EnumMap<Direction, IPartModel> getAttachments() {
+    public Map<Direction, IPartModel> getAttachments() {
         return this.attachments;
     }
 
-    public EnumMap<Direction, Integer> getAttachmentConnections() {
+    public Map<Direction, Integer> getAttachmentConnections() {
         return this.attachmentConnections;
     }
 
-    public BlockPos getPos() {
-        return this.pos;
-    }
-
-    public void setPos(BlockPos pos) {
-        this.pos = pos;
-    }
-
-    public List<AABB> getBoundingBoxes() {
-        return this.boundingBoxes;
+    public Map<Direction, Object> getPartModelData() {
+        return this.partModelData;
     }
 
-    public EnumMap<Direction, Object> getPartModelData() {
-        return this.partModelData;
+    /**
+     * @return The subset of this state that determines the cable geometry, without the part models and their data.
+     */
+    public CableKey getCableKey() {
+        return this.cableKey;
     }
 
-    @Override
-    public int hashCode() {
+    private int computeHashCode() {
         final int prime = 31;
         int result = 1;
-        result = prime * result + (this.attachmentConnections == null ? 0 : this.attachmentConnections.hashCode());
-        result = prime * result + (this.cableBusAdjacent == null ? 0 : this.cableBusAdjacent.hashCode());
-        result = prime * result + (this.cableColor == null ? 0 : this.cableColor.hashCode());
-        result = prime * result + (this.cableType == null ? 0 : this.cableType.hashCode());
-        result = prime * result + (this.connectionTypes == null ? 0 : this.connectionTypes.hashCode());
+        result = prime * result + this.attachmentConnections.hashCode();
+        result = prime * result + this.attachments.hashCode();
+        result = prime * result + this.cableBusAdjacent.hashCode();
+        result = prime * result + this.cableColor.hashCode();
+        result = prime * result + this.cableType.hashCode();
+        result = prime * result + this.connectionTypes.hashCode();
         result = prime * result + (this.coreType == null ? 0 : this.coreType.hashCode());
-        result = prime * result + (this.partModelData == null ? 0 : this.partModelData.hashCode());
+        result = prime * result + this.partModelData.hashCode();
         return result;
     }
 
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -169,11 +170,138 @@ public boolean equals(Object obj) {
 
         final CableBusRenderState other = (CableBusRenderState) obj;
 
-        return this.cableColor == other.cableColor && this.cableType == other.cableType
+        return this.hashCode == other.hashCode
+                && this.cableColor == other.cableColor && this.cableType == other.cableType
                 && this.coreType == other.coreType
-                && Objects.equals(this.attachmentConnections, other.attachmentConnections)
-                && Objects.equals(this.cableBusAdjacent, other.cableBusAdjacent)
-                && Objects.equals(this.connectionTypes, other.connectionTypes)
+                && this.attachmentConnections.equals(other.attachmentConnections)
+                && this.attachments.equals(other.attachments)
+                && this.cableBusAdjacent.equals(other.cableBusAdjacent)
+                && this.connectionTypes.equals(other.connectionTypes)
                 && Objects.equals(this.partModelData, other.partModelData);
     }
+
+    /**
+     * Identifies the cable mesh of a render state. Cable buses that only differ in their parts share the same key, so
+     * adding or changing a part doesn't require building a new cable mesh.
+     */
+    public static final class CableKey {
+        private final AECableType cableType;
+        private final CableCoreType coreType;
+        private final AEColor cableColor;
+        private final Map<Direction, AECableType> connectionTypes;
+        private final Set<Direction> cableBusAdjacent;
+        private final Map<Direction, Integer> attachmentConnections;
+        // Attachments that need a cable connection prevent rendering the cable as a straight line
+        private final boolean attachmentRequiresCable;
+        private final int hashCode;
+
+        private CableKey(CableBusRenderState state) {
+            this.cableType = state.cableType;
+            this.coreType = state.coreType;
+            this.cableColor = state.cableColor;
+            this.connectionTypes = state.connectionTypes;
+            this.cableBusAdjacent = state.cableBusAdjacent;
+            this.attachmentConnections = state.attachmentConnections;
+            this.attachmentRequiresCable = state.attachments.values().stream()
+                    .anyMatch(IPartModel::requireCableConnection);
+            this.hashCode = Objects.hash(cableType, coreType, cableColor, connectionTypes, cableBusAdjacent,
+                    attachmentConnections, attachmentRequiresCable);
+        }
+
+        public AECableType getCableType() {
+            return this.cableType;
+        }
+
+        public CableCoreType getCoreType() {
+            return this.coreType;
+        }
+
+        public AEColor getCableColor() {
+            return this.cableColor;
+        }
+
+        public Map<Direction, AECableType> getConnectionTypes() {
+            return this.connectionTypes;
+        }
+
+        public Set<Direction> getCableBusAdjacent() {
+            return this.cableBusAdjacent;
+        }
+
+        public Map<Direction, Integer> getAttachmentConnections() {
+            return this.attachmentConnections;
+        }
+
+        public boolean isAttachmentRequiresCable() {
+            return this.attachmentRequiresCable;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CableKey other)) {
+                return false;
+            }
+            return this.hashCode == other.hashCode
+                    && this.cableType == other.cableType
+                    && this.coreType == other.coreType
+                    && this.cableColor == other.cableColor
+                    && this.attachmentRequiresCable == other.attachmentRequiresCable
+                    && this.connectionTypes.equals(other.connectionTypes)
+                    && this.cableBusAdjacent.equals(other.cableBusAdjacent)
+                    && this.attachmentConnections.equals(other.attachmentConnections);
+        }
+    }
+
+    public static final class Builder {
+        private AECableType cableType = AECableType.NONE;
+        private CableCoreType coreType;
+        private AEColor cableColor = AEColor.TRANSPARENT;
+        private final EnumMap<Direction, AECableType> connectionTypes = new EnumMap<>(Direction.class);
+        private final EnumSet<Direction> cableBusAdjacent = EnumSet.noneOf(Direction.class);
+        private final EnumMap<Direction, IPartModel> attachments = new EnumMap<>(Direction.class);
+        private final EnumMap<Direction, Integer> attachmentConnections = new EnumMap<>(Direction.class);
+        private final EnumMap<Direction, Object> partModelData = new EnumMap<>(Direction.class);
+
+        private Builder() {
+        }
+
+        public Builder cable(AECableType cableType, AEColor cableColor) {
+            this.cableType = cableType;
+            this.coreType = CableCoreType.fromCableType(cableType);
+            this.cableColor = cableColor;
+            return this;
+        }
+
+        public Builder connection(Direction side, AECableType connectionType, boolean cableBusAdjacent) {
+            this.connectionTypes.put(side, connectionType);
+            if (cableBusAdjacent) {
+                this.cableBusAdjacent.add(side);
+            }
+            return this;
+        }
+
+        public Builder attachment(Direction side, IPartModel model, Object modelData, int connectionLength) {
+            this.attachments.put(side, model);
+            this.partModelData.put(side, modelData);
+            if (connectionLength > 0 && connectionLength <= 8) {
+                this.attachmentConnections.put(side, connectionLength);
+            }
+            return this;
+        }
+
+        /**
+         * @return The interned render state for the current contents of this builder.
+         */
+        public CableBusRenderState build() {
+            return INTERNER.intern(new CableBusRenderState(this));
+        }
+    }
 }
@@ -243,6 +243,21 @@ public int getPathfindingStepsPerTick() {
         return COMMON.pathfindingStepsPerTick.get();
     }
 
+    /**
+     * @return True if storage buses should skip rescanning external storages whose change version did not change.
+     */
+    public boolean isStorageBusChangeVersionsEnabled() {
+        return COMMON.storageBusChangeVersions.get();
+    }
+
+    /**
+     * @return The time in milliseconds that may be spent per level tick readying newly loaded block entities, or 0 to
+     *         ready all of them in the tick their chunk becomes ready.
+     */
+    public int getBlockEntityReadyBudget() {
+        return COMMON.blockEntityReadyBudget.get();
+    }
+
     /**
      * @return True if an in-world preview of parts and facade placement should be shown when holding one in hand.
      */
@@ -285,6 +300,10 @@ public int getTerminalMargin() {
         return CLIENT.terminalMargin.get();
     }
 
+    public int getCableMeshCacheSize() {
+        return CLIENT.cableMeshCacheSize.get();
+    }
+
     // Setters keep visibility as low as possible.
 
     private static class ClientConfig {
@@ -295,6 +314,7 @@ private static class ClientConfig {
         public final BooleanOption disableColoredCableRecipesInJEI;
         public final BooleanOption debugGuiOverlays;
         public final BooleanOption showPlacementPreview;
+        public final IntegerOption cableMeshCacheSize;
         // Terminal Settings
         public final EnumOption<TerminalStyle> terminalStyle;
         public final BooleanOption clearGridOnClose;
@@ -322,6 +342,8 @@ public ClientConfig(ConfigSection root) {
             this.debugGuiOverlays = client.addBoolean("showDebugGuiOverlays", false, "Show debugging GUI overlays");
             this.showPlacementPreview = client.addBoolean("showPlacementPreview", true,
                     "Show a preview of part and facade placement");
+            this.cableMeshCacheSize = client.addInt("cableMeshCacheSize", 512, 16, 65536,
+                    "How many distinct cable meshes are kept in memory. Raise this if cable heavy bases rebuild chunks slowly");
 
             var terminals = root.subsection("terminals");
             this.terminalStyle = terminals.addEnum("terminalStyle", TerminalStyle.SMALL);
@@ -364,6 +386,8 @@ private static class CommonConfig {
         public final BooleanOption debugTools;
         public final BooleanOption serverOpsIgnoreSecurity;
         public final IntegerOption pathfindingStepsPerTick;
+        public final BooleanOption storageBusChangeVersions;
+        public final IntegerOption blockEntityReadyBudget;
 
         // Logging
         public final BooleanOption securityAuditLog;
@@ -386,6 +410,10 @@ public CommonConfig(ConfigSection root) {
             pathfindingStepsPerTick = general.addInt("pathfindingStepsPerTick", 4,
                     1, 1024,
                     "The number of pathfinding steps that are taken per tick and per grid that is booting. Lower numbers will mean booting takes longer, but less work is done per tick.");
+            storageBusChangeVersions = general.addBoolean("storageBusChangeVersions", true,
+                    "Storage buses only rescan external storages when their change version differs from the last scan. Storages that do not track a version are always rescanned. Disable if a mod's storage reports stale versions.");
+            blockEntityReadyBudget = general.addInt("blockEntityReadyBudget", 0, 0, 50,
+                    "The time in milliseconds that may be spent per level tick readying newly loaded AE2 block entities, which connects them to their networks. Large bases are then connected over several ticks when a world or their chunks load, instead of in a single long tick. 0 readies all of them at once.");
 
             var logging = root.subsection("logging");
             securityAuditLog = logging.addBoolean("securityAuditLog", false);
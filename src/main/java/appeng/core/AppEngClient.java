@@ -61,6 +61,7 @@
 import appeng.client.commands.ClientCommands;
 import appeng.client.gui.me.common.PinnedKeys;
 import appeng.client.gui.style.StyleManager;
+import appeng.client.render.AmountTextCache;
 import appeng.client.render.effects.EnergyParticleData;
 import appeng.client.render.effects.ParticleTypes;
 import appeng.client.render.overlay.OverlayManager;
@@ -200,6 +201,7 @@ private void clientSetup(Minecraft client) {
      */
     private void postClientSetup(Minecraft minecraft) {
         StyleManager.initialize(minecraft.getResourceManager());
+        AmountTextCache.initialize(minecraft.getResourceManager());
         InitScreens.init();
         InitStackRenderHandlers.init();
     }
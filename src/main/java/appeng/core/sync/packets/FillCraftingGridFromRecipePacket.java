@@ -24,9 +24,11 @@
 import javax.annotation.Nullable;
 
 import com.google.common.base.Preconditions;
-import com.google.common.primitives.Ints;
 
 import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
 
 import net.minecraft.core.NonNullList;
 import net.minecraft.network.FriendlyByteBuf;
@@ -131,62 +133,70 @@ public void serverPacketData(ServerPlayer player) {
         // We'll try to use the best possible ingredients based on what's available in the network
 
         var storage = storageService.getInventory();
-        var cachedStorage = storageService.getCachedInventory();
         var ingredients = getDesiredIngredients(player);
 
-        // Handle each slot
+        // Move out items blocking the grid
         for (var x = 0; x < craftMatrix.size(); x++) {
             var currentItem = craftMatrix.getStackInSlot(x);
-            var ingredient = ingredients.get(x);
+            if (currentItem.isEmpty() || ingredients.get(x).test(currentItem)) {
+                // Slot is empty or already has an item that matches the ingredient
+                continue;
+            }
 
-            // Move out items blocking the grid
-            if (!currentItem.isEmpty()) {
-                // Put away old item, if not correct
-                if (ingredient.test(currentItem)) {
-                    // Grid already has an item that matches the ingredient
-                    continue;
+            if (security.hasPermission(player, SecurityPermissions.INJECT)) {
+                var in = AEItemKey.of(currentItem);
+                var inserted = StorageHelper.insert(storage, in, currentItem.getCount(),
+                        cct.getActionSource());
+                if (inserted < currentItem.getCount()) {
+                    currentItem = currentItem.copy();
+                    currentItem.shrink((int) inserted);
                 } else {
-                    if (security.hasPermission(player, SecurityPermissions.INJECT)) {
-                        var in = AEItemKey.of(currentItem);
-                        var inserted = StorageHelper.insert(storage, in, currentItem.getCount(),
-                                cct.getActionSource());
-                        if (inserted < currentItem.getCount()) {
-                            currentItem = currentItem.copy();
-                            currentItem.shrink((int) inserted);
-                        } else {
-                            currentItem = ItemStack.EMPTY;
-                        }
-                    }
-                    // If more is remaining, try moving it to the player inventory
-                    player.getInventory().add(currentItem);
-
-                    craftMatrix.setItemDirect(x, currentItem.isEmpty() ? ItemStack.EMPTY : currentItem);
+                    currentItem = ItemStack.EMPTY;
                 }
             }
+            // If more is remaining, try moving it to the player inventory
+            player.getInventory().add(currentItem);
 
-            if (ingredient.isEmpty()) {
-                continue;
+            craftMatrix.setItemDirect(x, currentItem.isEmpty() ? ItemStack.EMPTY : currentItem);
+        }
+
+        // Group the slots that still need an item by their ingredient. Shaped recipes use the same ingredient instance
+        // for every slot with the same key, and each distinct ingredient only has to be resolved against the network
+        // once. Ingredients are compared by identity, since equal item lists don't imply the same test.
+        var missingSlots = new Reference2ObjectLinkedOpenHashMap<Ingredient, IngredientSlots>();
+        for (var x = 0; x < craftMatrix.size(); x++) {
+            var ingredient = ingredients.get(x);
+            if (!ingredient.isEmpty() && craftMatrix.getStackInSlot(x).isEmpty()) {
+                missingSlots.computeIfAbsent(ingredient, IngredientSlots::new).slots.add(x);
             }
+        }
 
-            // Try to find the best item for this slot. Sort by the amount available in the last tick,
-            // then try to extract from most to least available item until 1 can be extracted.
-            if (currentItem.isEmpty() && security.hasPermission(player, SecurityPermissions.EXTRACT)) {
-                var request = findBestMatchingItemStack(ingredient, cachedStorage);
-                for (var what : request) {
-                    var extracted = StorageHelper.extract(storage, what, 1, cct.getActionSource());
-                    if (extracted > 0) {
-                        currentItem = what.toStack(Ints.saturatedCast(extracted));
+        // Try to find the best items for each ingredient. Sort by the amount available in the last tick,
+        // then try to extract from most to least available item until all slots using the ingredient are filled.
+        if (!missingSlots.isEmpty() && security.hasPermission(player, SecurityPermissions.EXTRACT)) {
+            var cachedStorage = storageService.getCachedInventory();
+            for (var group : missingSlots.values()) {
+                var filled = 0;
+                for (var what : findBestMatchingItemStack(group.ingredient, cachedStorage)) {
+                    var extracted = StorageHelper.extract(storage, what, group.slots.size() - filled,
+                            cct.getActionSource());
+                    for (; extracted > 0; extracted--) {
+                        craftMatrix.setItemDirect(group.slots.getInt(filled++), what.toStack());
+                    }
+                    if (filled >= group.slots.size()) {
                         break;
                     }
                 }
             }
+        }
 
-            // If still nothing, try taking it from the player inventory
-            if (currentItem.isEmpty()) {
-                currentItem = takeIngredientFromPlayer(cct, player, ingredient);
+        // If still nothing, try taking it from the player inventory
+        for (var group : missingSlots.values()) {
+            for (var x : group.slots) {
+                if (craftMatrix.getStackInSlot(x).isEmpty()) {
+                    craftMatrix.setItemDirect(x, takeIngredientFromPlayer(cct, player, group.ingredient));
+                }
             }
-
-            craftMatrix.setItemDirect(x, currentItem);
         }
 
         menu.slotsChanged(craftMatrix.toContainer());
@@ -253,6 +263,9 @@ private NonNullList<Ingredient> getDesiredIngredients(Player player) {
     private List<AEItemKey> findBestMatchingItemStack(Ingredient ingredient,
             KeyCounter storage) {
         return Arrays.stream(ingredient.getItems())//
+                // Fuzzy search ignores NBT, so every item only has to be searched for once
+                .map(ItemStack::getItem)//
+                .distinct()//
                 .map(AEItemKey::of) //
                 .flatMap(s -> storage.findFuzzy(s, FuzzyMode.IGNORE_ALL).stream())//
                 // While FuzzyMode.IGNORE_ALL will retrieve all stacks of the same Item which matches
@@ -264,4 +277,16 @@ private List<AEItemKey> findBestMatchingItemStack(Ingredient ingredient,
                 .map(e -> (AEItemKey) e.getKey())//
                 .toList();
     }
+
+    /**
+     * The crafting grid slots that are still missing an item for the same ingredient.
+     */
+    private static class IngredientSlots {
+        private final Ingredient ingredient;
+        private final IntList slots = new IntArrayList(9);
+
+        private IngredientSlots(Ingredient ingredient) {
+            this.ingredient = ingredient;
+        }
+    }
 }
@@ -98,9 +98,11 @@ public boolean rangeCheck() {
                 return this.myWap.getGrid() == this.targetGrid && this.testWap(this.myWap);
             }
 
+            // The machine view is cached by the grid, so looking for a new access point doesn't allocate
             for (var wap : this.targetGrid.getMachines(WirelessBlockEntity.class)) {
                 if (this.testWap(wap)) {
                     this.myWap = wap;
+                    break;
                 }
             }
 
@@ -28,6 +28,7 @@
 import appeng.api.stacks.AmountFormat;
 import appeng.api.stacks.GenericStack;
 import appeng.client.gui.me.common.StackSizeRenderer;
+import appeng.client.render.AmountTextCache;
 
 public final class ItemRendererHooks {
 
@@ -51,7 +52,7 @@ public static boolean onRenderGuiItemModel(ItemRenderer renderer, ItemStack stac
                     unwrapped.what());
 
             if (unwrapped.amount() > 0) {
-                String amtText = unwrapped.what().formatAmount(unwrapped.amount(), AmountFormat.SLOT);
+                var amtText = AmountTextCache.get(unwrapped.what(), unwrapped.amount(), AmountFormat.SLOT);
                 Font font = minecraft.font;
                 StackSizeRenderer.renderSizeLabel(font, x, y, amtText, false);
             }
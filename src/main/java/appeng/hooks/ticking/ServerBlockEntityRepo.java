@@ -15,7 +15,6 @@
  * You should have received a copy of the GNU Lesser General Public License
  * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
  */
-
 package appeng.hooks.ticking;
 
 import java.util.ArrayList;
@@ -23,6 +22,8 @@
 import java.util.Map;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -32,6 +33,8 @@
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 
 /**
@@ -44,8 +47,7 @@ void callInit() {
         }
     }
 
-    // Mapping is level -> encoded chunk pos -> block entities waiting to be initialized
-    private final Map<LevelAccessor, Long2ObjectMap<List<FirstTickInfo<?>>>> blockEntities = new Object2ObjectOpenHashMap<>();
+    private final Map<LevelAccessor, LevelQueue> blockEntities = new Object2ObjectOpenHashMap<>();
 
     /**
      * Resets all internal data
@@ -65,11 +67,33 @@ synchronized <T extends BlockEntity> void addBlockEntity(T blockEntity, Consumer
 
         // Note: in some cases, the level load event might be fired after addBlockEntity is called if a mod loads chunks
         // during an earlier listener. To avoid such issues, we use computeIfAbsent in addBlockEntity directly.
-        Long2ObjectMap<List<FirstTickInfo<?>>> worldQueue = this.blockEntities.computeIfAbsent(level,
-                key -> new Long2ObjectOpenHashMap<>());
+        var levelQueue = this.blockEntities.computeIfAbsent(level, key -> new LevelQueue());
 
-        worldQueue.computeIfAbsent(chunkPos, key -> new ArrayList<>())
+        levelQueue.pending.computeIfAbsent(chunkPos, key -> new ArrayList<>())
                 .add(new FirstTickInfo<>(blockEntity, initFunction));
+        if (levelQueue.tickingChunks.contains(chunkPos)) {
+            levelQueue.readyChunks.add(chunkPos);
+        }
+    }
+
+    /**
+     * Remembers whether a chunk can tick block entities, as reported by the chunk map when the full status of a chunk
+     * changes. Block entities queued in a chunk only become ready once it can tick.
+     */
+    synchronized void onChunkStatusChange(LevelAccessor level, long chunkPos, boolean ticking) {
+        if (ticking) {
+            var levelQueue = this.blockEntities.computeIfAbsent(level, key -> new LevelQueue());
+            levelQueue.tickingChunks.add(chunkPos);
+            if (levelQueue.pending.containsKey(chunkPos)) {
+                levelQueue.readyChunks.add(chunkPos);
+            }
+        } else {
+            var levelQueue = this.blockEntities.get(level);
+            if (levelQueue != null) {
+                levelQueue.tickingChunks.remove(chunkPos);
+                levelQueue.readyChunks.remove(chunkPos);
+            }
+        }
     }
 
     /**
@@ -86,16 +110,19 @@ synchronized void removeLevel(LevelAccessor level) {
      * chunk to save memory.
      */
     synchronized void removeChunk(LevelAccessor level, long chunkPos) {
-        Map<Long, List<FirstTickInfo<?>>> queue = this.blockEntities.get(level);
-        if (queue != null) {
-            queue.remove(chunkPos);
+        var levelQueue = this.blockEntities.get(level);
+        if (levelQueue != null) {
+            levelQueue.pending.remove(chunkPos);
+            levelQueue.tickingChunks.remove(chunkPos);
+            levelQueue.readyChunks.remove(chunkPos);
         }
     }
 
     /**
      * Get the block entities needing to be initialized in this specific {@link LevelAccessor}.
      */
-    public Long2ObjectMap<List<FirstTickInfo<?>>> getBlockEntities(LevelAccessor level) {
+    @Nullable
+    public LevelQueue getBlockEntities(LevelAccessor level) {
         return blockEntities.get(level);
     }
 
@@ -103,7 +130,7 @@ public List<Component> getReport() {
         var result = new ArrayList<Component>();
 
         for (var levelEntry : blockEntities.entrySet()) {
-            if (levelEntry.getValue().isEmpty()) {
+            if (levelEntry.getValue().pending.isEmpty()) {
                 continue;
             }
 
@@ -114,7 +141,7 @@ public List<Component> getReport() {
             }
 
             result.add(Component.literal(levelName).withStyle(ChatFormatting.BOLD));
-            for (var chunkEntry : levelEntry.getValue().long2ObjectEntrySet()) {
+            for (var chunkEntry : levelEntry.getValue().pending.long2ObjectEntrySet()) {
                 var chunkPos = new ChunkPos(chunkEntry.getLongKey());
                 var line = Component.literal(chunkPos.x + "," + chunkPos.z + ": ")
                         .withStyle(ChatFormatting.BOLD)
@@ -125,4 +152,48 @@ public List<Component> getReport() {
 
         return result;
     }
+
+    /**
+     * The block entities of a level waiting to be initialized, and the chunks in which they can be.
+     */
+    static class LevelQueue {
+        // Mapping is encoded chunk pos -> block entities waiting to be initialized
+        private final Long2ObjectMap<List<FirstTickInfo<?>>> pending = new Long2ObjectOpenHashMap<>();
+        // Chunks that can tick block entities according to the last status change of the chunk
+        private final LongSet tickingChunks = new LongOpenHashSet();
+        // Chunks with pending block entities that can tick
+        private final LongSet readyChunks = new LongOpenHashSet();
+
+        LongSet getReadyChunks() {
+            return readyChunks;
+        }
+
+        /**
+         * Takes all block entities waiting in a ready chunk.
+         *
+         * @return null if the chunk isn't ready anymore.
+         */
+        @Nullable
+        List<FirstTickInfo<?>> takeReadyChunk(long chunkPos) {
+            if (!readyChunks.remove(chunkPos)) {
+                return null;
+            }
+            return pending.remove(chunkPos);
+        }
+
+        /**
+         * Puts block entities of a chunk back in front of its queue, ahead of those that were added while it was
+         * readied.
+         */
+        void defer(long chunkPos, List<FirstTickInfo<?>> remaining) {
+            var deferred = new ArrayList<FirstTickInfo<?>>(remaining);
+            var added = pending.put(chunkPos, deferred);
+            if (added != null) {
+                deferred.addAll(added);
+            }
+            if (tickingChunks.contains(chunkPos)) {
+                readyChunks.add(chunkPos);
+            }
+        }
+    }
 }
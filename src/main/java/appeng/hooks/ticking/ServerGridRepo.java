@@ -18,20 +18,36 @@
 
 package appeng.hooks.ticking;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import it.unimi.dsi.fastutil.objects.ObjectSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import net.minecraft.world.level.Level;
 
 import appeng.me.Grid;
 
 /**
  * A class to hold data related to ticking networks.
+ * <p>
+ * Networks are also bucketed by the levels they have nodes in, so that level ticks only visit the networks in that
+ * level.
  */
 class ServerGridRepo {
     private final ObjectSet<Grid> networks = new ObjectOpenHashSet<>();
     private final ObjectSet<Grid> toAdd = new ObjectOpenHashSet<>();
     private final ObjectSet<Grid> toRemove = new ObjectOpenHashSet<>();
+    private final ObjectSet<Grid> levelsChanged = new ObjectOpenHashSet<>();
+    private final Map<Level, ObjectSet<Grid>> networksByLevel = new Reference2ObjectOpenHashMap<>();
+    /**
+     * The levels each network was bucketed under, since the levels of the network itself may have changed since.
+     */
+    private final Map<Grid, Set<Level>> bucketedLevels = new Reference2ObjectOpenHashMap<>();
 
     /**
      * Resets all internal data
@@ -40,6 +56,9 @@ void clear() {
         this.networks.clear();
         this.toAdd.clear();
         this.toRemove.clear();
+        this.levelsChanged.clear();
+        this.networksByLevel.clear();
+        this.bucketedLevels.clear();
     }
 
     /**
@@ -70,17 +89,62 @@ synchronized void removeNetwork(Grid g) {
         this.toAdd.remove(g);
     }
 
+    /**
+     * Queues moving a network to the buckets of the levels it currently has nodes in.
+     * <p>
+     * Is applied once {@link ServerGridRepo#updateNetworks()} is called.
+     */
+    synchronized void updateNetworkLevels(Grid g) {
+        Objects.requireNonNull(g);
+
+        this.levelsChanged.add(g);
+    }
+
     /**
      * Processes all networks to add or remove.
      * <p>
      * First all removals are handled, then the ones queued to be added.
      */
     synchronized void updateNetworks() {
-        this.networks.removeAll(this.toRemove);
+        for (var g : this.toRemove) {
+            this.networks.remove(g);
+            removeFromLevels(g);
+        }
         this.toRemove.clear();
 
         this.networks.addAll(this.toAdd);
+        this.levelsChanged.addAll(this.toAdd);
         this.toAdd.clear();
+
+        for (var g : this.levelsChanged) {
+            if (this.networks.contains(g)) {
+                removeFromLevels(g);
+                addToLevels(g);
+            }
+        }
+        this.levelsChanged.clear();
+    }
+
+    private void addToLevels(Grid g) {
+        var levels = new ReferenceOpenHashSet<>(g.getLevels());
+        if (!levels.isEmpty()) {
+            this.bucketedLevels.put(g, levels);
+            for (var level : levels) {
+                this.networksByLevel.computeIfAbsent(level, l -> new ObjectOpenHashSet<>()).add(g);
+            }
+        }
+    }
+
+    private void removeFromLevels(Grid g) {
+        var levels = this.bucketedLevels.remove(g);
+        if (levels != null) {
+            for (var level : levels) {
+                var bucket = this.networksByLevel.get(level);
+                if (bucket != null && bucket.remove(g) && bucket.isEmpty()) {
+                    this.networksByLevel.remove(level);
+                }
+            }
+        }
     }
 
     /**
@@ -90,4 +154,12 @@ public Iterable<Grid> getNetworks() {
         return networks;
     }
 
+    /**
+     * Get the registered {@link Grid}s that have nodes in the given level.
+     */
+    public Iterable<Grid> getNetworks(Level level) {
+        var result = this.networksByLevel.get(level);
+        return result != null ? result : Collections.emptySet();
+    }
+
 }
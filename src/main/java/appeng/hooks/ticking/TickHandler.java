@@ -31,20 +31,30 @@
 import com.google.common.base.Preconditions;
 import com.google.common.base.Stopwatch;
 
+import it.unimi.dsi.fastutil.longs.Long2ByteLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import it.unimi.dsi.fastutil.longs.LongComparator;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.minecraft.CrashReport;
 import net.minecraft.ReportedException;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.LevelChunk;
 
 import appeng.blockentity.AEBaseBlockEntity;
+import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.me.Grid;
 import appeng.me.GridNode;
@@ -58,10 +68,30 @@ public class TickHandler {
      */
     private static final int TIME_LIMIT_PROCESS_QUEUE_MILLISECONDS = 25;
 
+    /**
+     * Orders packed chunk positions column by column, so that consecutive chunks are neighbors wherever possible.
+     */
+    private static final LongComparator CHUNK_ORDER = (a, b) -> {
+        int result = Integer.compare(ChunkPos.getX(a), ChunkPos.getX(b));
+        return result != 0 ? result : Integer.compare(ChunkPos.getZ(a), ChunkPos.getZ(b));
+    };
+
     private static final TickHandler INSTANCE = new TickHandler();
     private final Queue<ILevelRunnable> serverQueue = new ArrayDeque<>();
     private final Map<LevelAccessor, Queue<ILevelRunnable>> callQueue = new HashMap<>();
+    /**
+     * Pending neighbor shape updates per level, as a bitmask of the sides to update for each packed block position.
+     */
+    private final Map<LevelAccessor, Long2ByteLinkedOpenHashMap> neighborShapeUpdates = new HashMap<>();
+    /**
+     * Block entities that requested a client update during the current tick, per level.
+     */
+    private final Map<LevelAccessor, BlockEntityUpdates> blockEntityUpdates = new HashMap<>();
     private final ServerBlockEntityRepo blockEntities = new ServerBlockEntityRepo();
+    /**
+     * The chunks whose pending block entities are readied in the current level tick. Reused between ticks.
+     */
+    private final LongArrayList readyChunks = new LongArrayList();
     private final ServerGridRepo grids = new ServerGridRepo();
 
     /**
@@ -125,6 +155,34 @@ public void addCallable(LevelAccessor level, ILevelRunnable c) {
         }
     }
 
+    /**
+     * Queues updating the shape of the block next to the given position on the next tick of the level, as if the block
+     * at the given position had just been placed. Multiple requests for the same position and side during a tick are
+     * only processed once.
+     */
+    public void addNeighborShapeUpdate(LevelAccessor level, BlockPos pos, Direction side) {
+        Preconditions.checkArgument(!level.isClientSide(), "Can only register serverside callbacks");
+
+        var updates = this.neighborShapeUpdates.computeIfAbsent(level, l -> new Long2ByteLinkedOpenHashMap());
+        var packedPos = pos.asLong();
+        updates.put(packedPos, (byte) (updates.get(packedPos) | 1 << side.get3DDataValue()));
+    }
+
+    /**
+     * Queues sending the block entity to clients at the end of the current level tick, unless it is already queued.
+     *
+     * @see AEBaseBlockEntity#markForUpdate()
+     */
+    public void addBlockEntityUpdate(AEBaseBlockEntity blockEntity) {
+        var level = blockEntity.getLevel();
+        Preconditions.checkArgument(level != null && !level.isClientSide(), "Can only queue serverside updates");
+
+        var updates = this.blockEntityUpdates.computeIfAbsent(level, l -> new BlockEntityUpdates());
+        if (!updates.blockEntities.add(blockEntity)) {
+            updates.coalesced++;
+        }
+    }
+
     /**
      * Add a {@link AEBaseBlockEntity} to be initializes with the next update.
      *
@@ -165,6 +223,18 @@ public void removeNetwork(Grid grid) {
         this.grids.removeNetwork(grid);
     }
 
+    /**
+     * Moves a {@link Grid} to the levels it currently has nodes in with the next update, so that it receives the level
+     * ticks of those levels.
+     * <p>
+     * Must only be called on the server.
+     */
+    public void updateNetworkLevels(Grid grid) {
+        Platform.assertServerThread();
+
+        this.grids.updateNetworkLevels(grid);
+    }
+
     public Iterable<Grid> getGridList() {
         Platform.assertServerThread();
         return this.grids.getNetworks();
@@ -185,6 +255,15 @@ public void onUnloadChunk(ServerLevel level, LevelChunk chunk) {
         this.blockEntities.removeChunk(level, chunk.getPos().toLong());
     }
 
+    /**
+     * Handles the full status of a chunk changing (on the server). Called by the chunk map.
+     *
+     * @param ticking True if the chunk can now tick block entities.
+     */
+    public void onChunkStatusChange(ServerLevel level, ChunkPos chunkPos, boolean ticking) {
+        this.blockEntities.onChunkStatusChange(level, chunkPos.toLong(), ticking);
+    }
+
     /**
      * Handle a level unload and tear down related data structures.
      */
@@ -196,7 +275,7 @@ public void onUnloadLevel(ServerLevel level) {
         var toDestroy = new ArrayList<GridNode>();
 
         this.grids.updateNetworks();
-        for (Grid g : this.grids.getNetworks()) {
+        for (Grid g : this.grids.getNetworks(level)) {
             for (var n : g.getNodes()) {
                 if (n.getLevel() == level) {
                     toDestroy.add((GridNode) n);
@@ -210,6 +289,8 @@ public void onUnloadLevel(ServerLevel level) {
 
         this.blockEntities.removeLevel(level);
         this.callQueue.remove(level);
+        this.neighborShapeUpdates.remove(level);
+        this.blockEntityUpdates.remove(level);
     }
 
     private void onServerLevelTickStart(ServerLevel level) {
@@ -221,9 +302,11 @@ private void onServerLevelTickStart(ServerLevel level) {
             queue.addAll(newQueue);
         }
 
+        this.updateNeighborShapes(level);
+
         // tick networks
         this.grids.updateNetworks();
-        for (var g : this.grids.getNetworks()) {
+        for (var g : this.grids.getNetworks(level)) {
             try {
                 g.onLevelStartTick(level);
             } catch (Throwable t) {
@@ -239,7 +322,7 @@ private void onServerLevelTickEnd(ServerLevel level) {
         this.readyBlockEntities(level);
 
         // tick networks
-        for (var g : this.grids.getNetworks()) {
+        for (var g : this.grids.getNetworks(level)) {
             try {
                 g.onLevelEndTick(level);
             } catch (Throwable t) {
@@ -249,6 +332,8 @@ private void onServerLevelTickEnd(ServerLevel level) {
                 throw new ReportedException(crashReport);
             }
         }
+
+        this.sendBlockEntityUpdates(level);
     }
 
     private void onServerTickStart() {
@@ -293,51 +378,140 @@ private void onServerTickEnd() {
         tickCounter++;
     }
 
+    /**
+     * Sends the queued block entity updates of the level.
+     */
+    private void sendBlockEntityUpdates(ServerLevel level) {
+        var updates = this.blockEntityUpdates.remove(level);
+        if (updates == null) {
+            return;
+        }
+
+        for (var blockEntity : updates.blockEntities) {
+            try {
+                blockEntity.sendClientUpdate();
+            } catch (Exception e) {
+                AELog.warn(e);
+            }
+        }
+
+        if (AEConfig.instance().isBlockUpdateLogEnabled()) {
+            AELog.info("Sent %d block entity updates in %s, %d duplicate requests were coalesced",
+                    updates.blockEntities.size(), level.dimension().location(), updates.coalesced);
+        }
+    }
+
+    /**
+     * Processes all queued neighbor shape updates of the level at once.
+     */
+    private void updateNeighborShapes(ServerLevel level) {
+        var updates = this.neighborShapeUpdates.remove(level);
+        if (updates == null) {
+            return;
+        }
+
+        var directions = Direction.values();
+        var pos = new BlockPos.MutableBlockPos();
+        var neighborPos = new BlockPos.MutableBlockPos();
+        for (var entry : updates.long2ByteEntrySet()) {
+            pos.set(entry.getLongKey());
+            if (!level.isLoaded(pos)) {
+                continue;
+            }
+
+            var ourState = level.getBlockState(pos);
+            var sides = entry.getByteValue();
+            for (var side : directions) {
+                if ((sides & 1 << side.get3DDataValue()) == 0) {
+                    continue;
+                }
+
+                neighborPos.setWithOffset(pos, side);
+                try {
+                    var neighborState = level.getBlockState(neighborPos);
+                    var newNeighborState = neighborState.updateShape(side.getOpposite(), ourState, level,
+                            neighborPos, pos);
+                    Block.updateOrDestroy(neighborState, newNeighborState, level, neighborPos, Block.UPDATE_ALL,
+                            Block.UPDATE_LIMIT);
+                } catch (Exception e) {
+                    AELog.warn(e);
+                }
+            }
+        }
+    }
+
     /**
      * Ready the block entities in this level. server-side only.
      */
     private void readyBlockEntities(ServerLevel level) {
         var levelQueue = blockEntities.getBlockEntities(level);
-        if (levelQueue == null) {
+        if (levelQueue == null || levelQueue.getReadyChunks().isEmpty()) {
             return;
         }
 
-        // Make a copy because this set may be modified when new chunks are loaded by an onReady call below
-        long[] workSet = levelQueue.keySet().toLongArray();
+        // Chunks are only marked as ready once the chunk map reports that they can tick, so pending chunks that can't
+        // are never looked at. Copy them, because the set may be modified when new chunks are loaded by an onReady
+        // call below.
+        readyChunks.clear();
+        readyChunks.addAll(levelQueue.getReadyChunks());
+
+        var budget = TimeUnit.MILLISECONDS.toNanos(AEConfig.instance().getBlockEntityReadyBudget());
+        var deadline = System.nanoTime() + budget;
+        if (budget > 0) {
+            // When readying is spread over several ticks, ready neighboring chunks one after another so the partial
+            // networks they form are merged early instead of being split and rebuilt again later.
+            LongArrays.quickSort(readyChunks.elements(), 0, readyChunks.size(), CHUNK_ORDER);
+        }
+
+        for (int i = 0; i < readyChunks.size(); i++) {
+            long packedChunkPos = readyChunks.getLong(i);
 
-        for (long packedChunkPos : workSet) {
-            // Readies all of our block entities in this chunk as soon as it can tick BEs
+            // The status change may be reported before the chunk actually ticks. It stays ready until it does.
             // The following test is equivalent to ServerLevel#isPositionTickingWithEntitiesLoaded
-            if (level.shouldTickBlocksAt(packedChunkPos)) {
-                // Take the currently waiting block entities for this chunk and ready them all. Should more block
-                // entities be added to this chunk while we're working on it, a new list will be added automatically and
-                // we'll work on this chunk again next tick.
-                var chunkQueue = levelQueue.remove(packedChunkPos);
-                if (chunkQueue == null) {
-                    AELog.warn("Chunk %s was unloaded while we were readying block entities",
-                            new ChunkPos(packedChunkPos));
-                    continue; // This should never happen, chunk unloaded under our noses
+            if (!level.shouldTickBlocksAt(packedChunkPos)) {
+                continue;
+            }
+
+            // Take the currently waiting block entities for this chunk and ready them all. Should more block
+            // entities be added to this chunk while we're working on it, a new list will be added automatically and
+            // we'll work on this chunk again next tick.
+            var chunkQueue = levelQueue.takeReadyChunk(packedChunkPos);
+            if (chunkQueue == null) {
+                continue; // The chunk was unloaded or stopped ticking while readying an earlier chunk
+            }
+
+            for (int j = 0; j < chunkQueue.size(); j++) {
+                var info = chunkQueue.get(j);
+                if (budget > 0 && j > 0 && System.nanoTime() >= deadline) {
+                    // Out of time, continue with the remaining block entities of this chunk next tick
+                    levelQueue.defer(packedChunkPos, chunkQueue.subList(j, chunkQueue.size()));
+                    readyChunks.clear();
+                    return;
                 }
 
-                for (var info : chunkQueue) {
-                    // Only ready block entities which weren't destroyed in the meantime.
-                    if (!info.blockEntity().isRemoved()) {
-                        try {
-                            // This could load more chunks, but the earliest time to be initialized is the next tick.
-                            info.callInit();
-                        } catch (Throwable t) {
-                            CrashReport crashReport = CrashReport.forThrowable(t, "Readying AE2 block entity");
-                            
-                            var category = crashReport.addCategory("Block entity being readied");
-                            category.setDetail("World", () -> level.dimension().location().toString());
-                            info.blockEntity().fillCrashReportCategory(category);
-
-                            throw new ReportedException(crashReport);
-                        }
+                // Only ready block entities which weren't destroyed in the meantime.
+                if (!info.blockEntity().isRemoved()) {
+                    try {
+                        // This could load more chunks, but the earliest time to be initialized is the next tick.
+                        info.callInit();
+                    } catch (Throwable t) {
+                        CrashReport crashReport = CrashReport.forThrowable(t, "Readying AE2 block entity");
+
+                        var category = crashReport.addCategory("Block entity being readied");
+                        category.setDetail("World", () -> level.dimension().location().toString());
+                        info.blockEntity().fillCrashReportCategory(category);
+
+                        throw new ReportedException(crashReport);
                     }
                 }
             }
+
+            if (budget > 0 && System.nanoTime() >= deadline) {
+                // The chunks that were not started yet stay queued for the next tick
+                break;
+            }
         }
+        readyChunks.clear();
     }
 
     /**
@@ -384,4 +558,13 @@ public long getCurrentTick() {
     public List<Component> getBlockEntityReport() {
         return blockEntities.getReport();
     }
+
+    /**
+     * The block entities of a level that requested a client update during the current tick.
+     */
+    private static class BlockEntityUpdates {
+        private final ReferenceLinkedOpenHashSet<AEBaseBlockEntity> blockEntities = new ReferenceLinkedOpenHashSet<>();
+        // Number of update requests that were merged into an already pending update
+        private int coalesced;
+    }
 }
@@ -25,6 +25,8 @@
 import com.mojang.math.Matrix4f;
 import com.mojang.math.Vector3f;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+
 import net.fabricmc.fabric.api.transfer.v1.client.fluid.FluidVariantRendering;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariantAttributes;
 import net.minecraft.client.Minecraft;
@@ -55,10 +57,22 @@ public static void init() {
     }
 
     private static class ItemKeyRenderHandler implements IAEStackRenderHandler<AEItemKey> {
+        /**
+         * The number of display stacks kept. The least recently rendered one is evicted first.
+         */
+        private static final int MAX_DISPLAY_STACKS = 1024;
+
+        /**
+         * Stacks rendered for keys, to avoid creating a stack and copying its tag for every slot and monitor each
+         * frame. Only used from the render thread.
+         */
+        private final Object2ObjectLinkedOpenHashMap<AEItemKey, ItemStack> displayStacks =
+                new Object2ObjectLinkedOpenHashMap<>();
+
         @Override
         public void drawInGui(Minecraft minecraft, PoseStack poseStack, int x, int y, int zIndex,
                 AEItemKey stack) {
-            ItemStack displayStack = stack.toStack();
+            ItemStack displayStack = getDisplayStack(stack);
             // The item renderer uses this global stack, so we have to apply the current transform to it.
             var globalStack = RenderSystem.getModelViewStack();
             globalStack.pushPose();
@@ -87,12 +101,25 @@ public void drawOnBlockFace(PoseStack poseStack, MultiBufferSource buffers, AEIt
             // Rotate the normal matrix a little for nicer lighting.
             poseStack.last().normal().mul(Vector3f.XN.rotationDegrees(45f));
 
-            Minecraft.getInstance().getItemRenderer().renderStatic(what.toStack(), ItemTransforms.TransformType.GUI,
-                    combinedLight, OverlayTexture.NO_OVERLAY, poseStack, buffers, 0);
+            Minecraft.getInstance().getItemRenderer().renderStatic(getDisplayStack(what),
+                    ItemTransforms.TransformType.GUI, combinedLight, OverlayTexture.NO_OVERLAY, poseStack, buffers, 0);
 
             poseStack.popPose();
         }
 
+        private ItemStack getDisplayStack(AEItemKey what) {
+            var result = displayStacks.getAndMoveToLast(what);
+            // Item renderers may modify the stack they're given, so recreate it once it no longer matches the key
+            if (result == null || result.getCount() != 1 || !what.matches(result)) {
+                if (result == null && displayStacks.size() >= MAX_DISPLAY_STACKS) {
+                    displayStacks.removeFirst();
+                }
+                result = what.toStack();
+                displayStacks.putAndMoveToLast(what, result);
+            }
+            return result;
+        }
+
         @Override
         public Component getDisplayName(AEItemKey stack) {
             return stack.toStack().getHoverName();
@@ -20,6 +20,8 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +32,9 @@
 import com.google.common.collect.MultimapBuilder;
 import com.google.common.collect.SetMultimap;
 
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
 import net.minecraft.CrashReportCategory;
 import net.minecraft.world.level.Level;
 
@@ -52,8 +57,43 @@ public class Grid implements IGrid {
     private static final List<IGridNode> ITERATION_BUFFER = new ArrayList<>();
     private static int nextSerial = 0;
 
+    /**
+     * The tick phases each service class handles, determined by which of the default methods of
+     * {@link IGridServiceProvider} it overrides.
+     */
+    private static final ClassValue<Set<TickPhase>> TICK_PHASES = new ClassValue<>() {
+        @Override
+        protected Set<TickPhase> computeValue(Class<?> type) {
+            var result = EnumSet.noneOf(TickPhase.class);
+            for (var phase : TickPhase.values()) {
+                try {
+                    var method = type.getMethod(phase.methodName, phase.parameterTypes);
+                    if (method.getDeclaringClass() != IGridServiceProvider.class) {
+                        result.add(phase);
+                    }
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return result;
+        }
+    };
+
     private final SetMultimap<Class<?>, IGridNode> machines = MultimapBuilder.hashKeys().hashSetValues().build();
+    /**
+     * Immutable views of the machines per class returned by {@link #getMachines}. A view is dropped whenever a node of
+     * its class is added or removed and rebuilt on the next query.
+     */
+    private final Map<Class<?>, ImmutableSet<?>> machineViews = new IdentityHashMap<>();
     private final Map<Class<?>, IGridServiceProvider> services;
+    private final IGridServiceProvider[] serverStartTickServices;
+    private final IGridServiceProvider[] levelStartTickServices;
+    private final IGridServiceProvider[] levelEndTickServices;
+    private final IGridServiceProvider[] serverEndTickServices;
+    /**
+     * The number of nodes of this grid in each level. The grid only receives the level ticks of these levels.
+     */
+    private final Reference2IntMap<Level> nodesPerLevel = new Reference2IntOpenHashMap<>();
     private GridNode pivot;
     private int priority; // how import is this network?
     private GridStorage myStorage;
@@ -78,6 +118,16 @@ public static Grid create(GridNode center) {
     private Grid(GridNode center) {
         this.pivot = Objects.requireNonNull(center);
         this.services = GridServicesInternal.createServices(this);
+        this.serverStartTickServices = getServices(TickPhase.SERVER_START);
+        this.levelStartTickServices = getServices(TickPhase.LEVEL_START);
+        this.levelEndTickServices = getServices(TickPhase.LEVEL_END);
+        this.serverEndTickServices = getServices(TickPhase.SERVER_END);
+    }
+
+    private IGridServiceProvider[] getServices(TickPhase phase) {
+        return this.services.values().stream()
+                .filter(service -> TICK_PHASES.get(service.getClass()).contains(phase))
+                .toArray(IGridServiceProvider[]::new);
     }
 
     int getPriority() {
@@ -103,7 +153,17 @@ void remove(GridNode gridNode) {
         }
 
         var machineClass = gridNode.getOwner().getClass();
-        this.machines.remove(machineClass, gridNode);
+        if (this.machines.remove(machineClass, gridNode)) {
+            this.machineViews.remove(machineClass);
+
+            var level = gridNode.getLevel();
+            if (this.nodesPerLevel.getInt(level) <= 1) {
+                this.nodesPerLevel.removeInt(level);
+                TickHandler.instance().updateNetworkLevels(this);
+            } else {
+                this.nodesPerLevel.put(level, this.nodesPerLevel.getInt(level) - 1);
+            }
+        }
 
         gridNode.setGridStorage(null);
 
@@ -162,7 +222,14 @@ void add(GridNode gridNode) {
         gridNode.setGridStorage(this.myStorage);
 
         // track node.
-        this.machines.put(gridNode.getOwner().getClass(), gridNode);
+        var machineClass = gridNode.getOwner().getClass();
+        if (this.machines.put(machineClass, gridNode)) {
+            this.machineViews.remove(machineClass);
+
+            if (this.nodesPerLevel.mergeInt(gridNode.getLevel(), 1, Integer::sum) == 1) {
+                TickHandler.instance().updateNetworkLevels(this);
+            }
+        }
 
         for (var service : this.services.values()) {
             service.addNode(gridNode);
@@ -190,27 +257,50 @@ public Iterable<Class<?>> getMachineClasses() {
         return this.machines.keySet();
     }
 
+    /**
+     * @return True if any node in this grid is owned by an instance of exactly the given class.
+     */
+    boolean hasMachines(Class<?> machineClass) {
+        return this.machines.containsKey(machineClass);
+    }
+
     @Override
     public Iterable<IGridNode> getMachineNodes(Class<?> machineClass) {
         return this.machines.get(machineClass);
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public <T> Set<T> getMachines(Class<T> machineClass) {
-        Set<IGridNode> nodes = this.machines.get(machineClass);
-        var resultBuilder = ImmutableSet.<T>builder();
-        for (IGridNode node : nodes) {
-            var logicalHost = node.getOwner();
-            if (machineClass.isInstance(logicalHost)) {
-                resultBuilder.add(machineClass.cast(logicalHost));
+        var view = (ImmutableSet<T>) this.machineViews.get(machineClass);
+        if (view == null) {
+            Set<IGridNode> nodes = this.machines.get(machineClass);
+            if (nodes.isEmpty()) {
+                // Don't keep views around for classes that were merely queried
+                return ImmutableSet.of();
+            }
+
+            var resultBuilder = ImmutableSet.<T>builder();
+            for (IGridNode node : nodes) {
+                var logicalHost = node.getOwner();
+                if (machineClass.isInstance(logicalHost)) {
+                    resultBuilder.add(machineClass.cast(logicalHost));
+                }
             }
+            view = resultBuilder.build();
+            this.machineViews.put(machineClass, view);
         }
-        return resultBuilder.build();
+        return view;
     }
 
     @Override
     public <T> Set<T> getActiveMachines(Class<T> machineClass) {
+        // Whether a node is active changes without it being added or removed, so this can't be cached
         Set<IGridNode> nodes = this.machines.get(machineClass);
+        if (nodes.isEmpty()) {
+            return ImmutableSet.of();
+        }
+
         var resultBuilder = ImmutableSet.<T>builder();
         for (IGridNode node : nodes) {
             var logicalHost = node.getOwner();
@@ -240,8 +330,15 @@ void setPivot(GridNode pivot) {
         this.pivot = pivot;
     }
 
+    /**
+     * @return The levels this grid has nodes in.
+     */
+    public Set<Level> getLevels() {
+        return this.nodesPerLevel.keySet();
+    }
+
     public void onServerStartTick() {
-        for (var gc : this.services.values()) {
+        for (var gc : this.serverStartTickServices) {
             if (this.pivot != null) {
                 gc.onServerStartTick();
             }
@@ -249,7 +346,7 @@ public void onServerStartTick() {
     }
 
     public void onLevelStartTick(Level level) {
-        for (var gc : this.services.values()) {
+        for (var gc : this.levelStartTickServices) {
             if (this.pivot != null) {
                 gc.onLevelStartTick(level);
             }
@@ -257,7 +354,7 @@ public void onLevelStartTick(Level level) {
     }
 
     public void onLevelEndTick(Level level) {
-        for (var gc : this.services.values()) {
+        for (var gc : this.levelEndTickServices) {
             if (this.pivot != null) {
                 gc.onLevelEndTick(level);
             }
@@ -265,7 +362,7 @@ public void onLevelEndTick(Level level) {
     }
 
     public void onServerEndTick() {
-        for (var gc : this.services.values()) {
+        for (var gc : this.serverEndTickServices) {
             if (this.pivot != null) {
                 gc.onServerEndTick();
             }
@@ -318,4 +415,19 @@ public void fillCrashReportCategory(CrashReportCategory category) {
     public String toString() {
         return "Grid #" + serialNumber;
     }
+
+    private enum TickPhase {
+        SERVER_START("onServerStartTick"),
+        LEVEL_START("onLevelStartTick", Level.class),
+        LEVEL_END("onLevelEndTick", Level.class),
+        SERVER_END("onServerEndTick");
+
+        private final String methodName;
+        private final Class<?>[] parameterTypes;
+
+        TickPhase(String methodName, Class<?>... parameterTypes) {
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+        }
+    }
 }
@@ -18,48 +18,85 @@
 
 package appeng.me;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.function.BiConsumer;
 
+import javax.annotation.Nullable;
+
 import appeng.api.networking.IGrid;
 import appeng.api.networking.events.GridEvent;
 
 public final class GridEventBus {
-    private static final Map<Class<? extends GridEvent>, Subscriptions<?>> EVENTS = new HashMap<>();
+    /**
+     * Resolves the subscriptions of an event class without hashing the class on every posted event. Event classes
+     * that nobody subscribed to resolve to an empty subscription list as well.
+     */
+    private static final ClassValue<Subscriptions<?>> EVENTS = new ClassValue<>() {
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        protected Subscriptions<?> computeValue(Class<?> type) {
+            return new Subscriptions(type);
+        }
+    };
 
     private static class Subscriptions<T extends GridEvent> {
         private final Class<T> eventClass;
-        private final List<BiConsumer<IGrid, T>> handlers = new ArrayList<>();
+        // Handlers are only added during startup, so the array is simply copied for each new handler
+        private Handler<T>[] handlers = newArray(0);
 
         private Subscriptions(Class<T> eventClass) {
             this.eventClass = eventClass;
         }
 
-        public void subscribe(BiConsumer<IGrid, T> handler) {
-            handlers.add(handler);
+        @SuppressWarnings("unchecked")
+        private static <T extends GridEvent> Handler<T>[] newArray(int size) {
+            return new Handler[size];
         }
 
-        public void invoke(IGrid grid, GridEvent event) {
+        public synchronized void subscribe(Handler<T> handler) {
+            var newHandlers = Arrays.copyOf(handlers, handlers.length + 1);
+            newHandlers[handlers.length] = handler;
+            handlers = newHandlers;
+        }
+
+        public void invoke(Grid grid, GridEvent event) {
+            var handlers = this.handlers;
+            if (handlers.length == 0) {
+                return;
+            }
+
             var typedEvent = eventClass.cast(event);
             for (var handler : handlers) {
-                handler.accept(grid, typedEvent);
+                // Skip handlers that only deliver the event to machines this grid doesn't have
+                if (handler.nodeOwnerClass == null || grid.hasMachines(handler.nodeOwnerClass)) {
+                    handler.consumer.accept(grid, typedEvent);
+                }
             }
         }
     }
 
+    private record Handler<T extends GridEvent>(@Nullable Class<?> nodeOwnerClass, BiConsumer<IGrid, T> consumer) {
+    }
+
     private GridEventBus() {
     }
 
     @SuppressWarnings("unchecked")
     private static <T extends GridEvent> Subscriptions<T> getSubscriptions(Class<T> eventClass) {
-        return (Subscriptions<T>) EVENTS.computeIfAbsent(eventClass, Subscriptions::new);
+        return (Subscriptions<T>) EVENTS.get(eventClass);
     }
 
     public static <T extends GridEvent> void subscribe(Class<T> eventClass, BiConsumer<IGrid, T> handler) {
-        getSubscriptions(eventClass).subscribe(handler);
+        subscribe(eventClass, null, handler);
+    }
+
+    /**
+     * Subscribes a handler that only needs to be called for grids that have at least one node owned by an instance of
+     * the given class (subclasses not included).
+     */
+    public static <T extends GridEvent> void subscribe(Class<T> eventClass, @Nullable Class<?> nodeOwnerClass,
+            BiConsumer<IGrid, T> handler) {
+        getSubscriptions(eventClass).subscribe(new Handler<>(nodeOwnerClass, handler));
     }
 
     public static void postEvent(Grid g, GridEvent e) {
@@ -59,6 +59,7 @@
 import appeng.core.AELog;
 import appeng.core.worlddata.IGridStorageSaveData;
 import appeng.me.pathfinding.IPathItem;
+import appeng.me.service.SecurityService;
 
 public class GridNode implements IGridNode, IPathItem {
     private final ServerLevel level;
@@ -234,6 +235,9 @@ public void setExposedOnSides(Set<Direction> directions) {
     public void setOwningPlayerId(int ownerPlayerId) {
         if (ownerPlayerId >= 0 && this.owningPlayerId != ownerPlayerId) {
             this.owningPlayerId = ownerPlayerId;
+            if (this.myGrid != null) {
+                ((SecurityService) this.myGrid.getSecurityService()).invalidatePermissionCaches();
+            }
             if (ready) {
                 callListener(IGridNodeListener::onOwnerChanged);
             }
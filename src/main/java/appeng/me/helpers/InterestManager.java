@@ -18,36 +18,63 @@
 
 package appeng.me.helpers;
 
-import java.util.Collection;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableList;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 
 import appeng.api.stacks.AEKey;
 
+/**
+ * Indexes watchers by the key they are interested in.
+ * <p/>
+ * The watchers of each key are kept in an immutable list that is replaced whenever the watchers of that key change.
+ * Watchers change rarely compared to how often they are notified, and this makes notifying them a plain array
+ * iteration that is safe even if a watcher changes its interests while being notified.
+ */
 public class InterestManager<T> {
 
-    private final Multimap<AEKey, T> container;
-    private final Set<T> allStacksWatchers = Sets.newIdentityHashSet();
-
-    public InterestManager(Multimap<AEKey, T> interests) {
-        this.container = interests;
-    }
+    private final Map<AEKey, ImmutableList<T>> container = new Object2ObjectOpenHashMap<>();
+    private ImmutableList<T> allStacksWatchers = ImmutableList.of();
 
     public boolean put(AEKey stack, T iw) {
-        return this.container.put(stack, iw);
+        var watchers = get(stack);
+        if (watchers.contains(iw)) {
+            return false;
+        }
+        this.container.put(stack, ImmutableList.<T>builderWithExpectedSize(watchers.size() + 1)
+                .addAll(watchers)
+                .add(iw)
+                .build());
+        return true;
     }
 
     public boolean remove(AEKey stack, T iw) {
-        return this.container.remove(stack, iw);
+        var watchers = get(stack);
+        if (!watchers.contains(iw)) {
+            return false;
+        }
+        if (watchers.size() == 1) {
+            this.container.remove(stack);
+        } else {
+            this.container.put(stack, without(watchers, iw));
+        }
+        return true;
     }
 
     public void setWatchAll(boolean watchAll, T watcher) {
+        if (watchAll == allStacksWatchers.contains(watcher)) {
+            return;
+        }
         if (watchAll) {
-            allStacksWatchers.add(watcher);
+            allStacksWatchers = ImmutableList.<T>builderWithExpectedSize(allStacksWatchers.size() + 1)
+                    .addAll(allStacksWatchers)
+                    .add(watcher)
+                    .build();
         } else {
-            allStacksWatchers.remove(watcher);
+            allStacksWatchers = without(allStacksWatchers, watcher);
         }
     }
 
@@ -55,15 +82,25 @@ public boolean containsKey(AEKey stack) {
         return this.container.containsKey(stack);
     }
 
-    public Collection<T> get(AEKey stack) {
-        return this.container.get(stack);
+    public List<T> get(AEKey stack) {
+        return this.container.getOrDefault(stack, ImmutableList.of());
     }
 
-    public Collection<T> getAllStacksWatchers() {
+    public List<T> getAllStacksWatchers() {
         return this.allStacksWatchers;
     }
 
     public boolean isEmpty() {
         return allStacksWatchers.isEmpty() && container.isEmpty();
     }
+
+    private static <T> ImmutableList<T> without(ImmutableList<T> watchers, T watcher) {
+        var result = ImmutableList.<T>builderWithExpectedSize(watchers.size() - 1);
+        for (var other : watchers) {
+            if (other != watcher) {
+                result.add(other);
+            }
+        }
+        return result.build();
+    }
 }
@@ -22,11 +22,15 @@
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Player;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+
 import appeng.api.config.SecurityPermissions;
 import appeng.api.features.IPlayerRegistry;
 import appeng.api.networking.GridHelper;
@@ -50,20 +54,36 @@ public class SecurityService implements ISecurityService, IGridServiceProvider {
 
     private final IGrid myGrid;
     private final List<ISecurityProvider> securityProvider = new ArrayList<>();
-    private final HashMap<Integer, EnumSet<SecurityPermissions>> playerPerms = new HashMap<>();
+    private PermissionTable permissions = PermissionTable.EMPTY;
     private long securityKey = -1;
+    /**
+     * Incremented whenever the permissions, the security setup or the owners of nodes in this grid may have changed.
+     * Anything caching permission checks that depend on this grid has to be invalidated when this changes.
+     */
+    private int permissionsVersion;
 
     public SecurityService(IGrid g) {
         this.myGrid = g;
     }
 
+    public int getPermissionsVersion() {
+        return permissionsVersion;
+    }
+
+    public void invalidatePermissionCaches() {
+        permissionsVersion++;
+    }
+
     private void updatePermissions() {
-        this.playerPerms.clear();
+        invalidatePermissionCaches();
         if (this.securityProvider.isEmpty()) {
+            this.permissions = PermissionTable.EMPTY;
             return;
         }
 
-        this.securityProvider.get(0).readPermissions(this.playerPerms);
+        var playerPerms = new HashMap<Integer, EnumSet<SecurityPermissions>>();
+        this.securityProvider.get(0).readPermissions(playerPerms);
+        this.permissions = new PermissionTable(playerPerms);
     }
 
     public long getSecurityKey() {
@@ -75,6 +95,7 @@ public void removeNode(IGridNode gridNode) {
         var security = gridNode.getService(ISecurityProvider.class);
         if (security != null) {
             this.securityProvider.remove(security);
+            invalidatePermissionCaches();
             this.updateSecurityKey();
         }
     }
@@ -96,6 +117,7 @@ private void updateSecurityKey() {
         }
 
         if (lastCode != this.securityKey) {
+            invalidatePermissionCaches();
             this.getGrid().postEvent(new GridSecurityChange());
             for (var n : this.getGrid().getNodes()) {
                 GridNode gridNode = (GridNode) n;
@@ -113,6 +135,7 @@ public void addNode(IGridNode gridNode) {
 
         if (security != null) {
             this.securityProvider.add(security);
+            invalidatePermissionCaches();
             this.updateSecurityKey();
         } else {
             ((GridNode) gridNode).setLastSecurityKey(this.securityKey);
@@ -129,7 +152,7 @@ public boolean hasPermission(Player player, SecurityPermissions perm) {
         Objects.requireNonNull(player);
         Objects.requireNonNull(perm);
 
-        if (AEConfig.instance().serverOpsIgnoreSecurity() && player.hasPermissions(4)) {
+        if (ignoresSecurity(player)) {
             return true;
         }
 
@@ -144,21 +167,26 @@ public boolean hasPermission(Player player, SecurityPermissions perm) {
     @Override
     public boolean hasPermission(int playerID, SecurityPermissions perm) {
         if (this.isAvailable()) {
-            var perms = this.playerPerms.get(playerID);
-
-            if (perms == null) {
-                if (playerID == -1) {
-                    return true; // no default permission -> allow!
-                } else {
-                    return this.hasPermission(-1, perm);
-                }
-            }
-
-            return perms.contains(perm);
+            return (this.permissions.getMask(playerID) & PermissionTable.bit(perm)) != 0;
         }
         return true;
     }
 
+    /**
+     * Returns the permissions configured for the given player as a bitmask of {@link SecurityPermissions} ordinals,
+     * regardless of whether security is currently {@link #isAvailable() available}.
+     */
+    public int getPermissionMask(int playerID) {
+        return this.permissions.getMask(playerID);
+    }
+
+    /**
+     * Server operators may be configured to bypass security.
+     */
+    public static boolean ignoresSecurity(Player player) {
+        return AEConfig.instance().serverOpsIgnoreSecurity() && player.hasPermissions(4);
+    }
+
     @Override
     public int getOwner() {
         if (this.isAvailable()) {
@@ -170,4 +198,37 @@ public int getOwner() {
     public IGrid getGrid() {
         return this.myGrid;
     }
+
+    /**
+     * An immutable snapshot of the permissions read from the security provider, as bitmasks keyed by player id.
+     */
+    public static final class PermissionTable {
+        public static final int ALL = (1 << SecurityPermissions.values().length) - 1;
+
+        static final PermissionTable EMPTY = new PermissionTable(Map.of());
+
+        private final Int2IntMap masks;
+
+        private PermissionTable(Map<Integer, EnumSet<SecurityPermissions>> playerPerms) {
+            this.masks = new Int2IntOpenHashMap(playerPerms.size());
+            for (var entry : playerPerms.entrySet()) {
+                var mask = 0;
+                for (var perm : entry.getValue()) {
+                    mask |= bit(perm);
+                }
+                this.masks.put(entry.getKey().intValue(), mask);
+            }
+            // Players without their own entry get the permissions of player -1, and if that is missing too, everything
+            // is allowed
+            this.masks.defaultReturnValue(this.masks.containsKey(-1) ? this.masks.get(-1) : ALL);
+        }
+
+        public static int bit(SecurityPermissions perm) {
+            return 1 << perm.ordinal();
+        }
+
+        public int getMask(int playerID) {
+            return this.masks.get(playerID);
+        }
+    }
 }
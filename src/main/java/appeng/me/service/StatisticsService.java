@@ -22,14 +22,16 @@
 import java.util.Map;
 import java.util.Set;
 
-import com.google.common.collect.HashMultiset;
-import com.google.common.collect.Multiset;
-
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelAccessor;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridService;
@@ -47,10 +49,10 @@ public class StatisticsService implements IGridService, IGridServiceProvider {
     private final IGrid grid;
 
     /**
-     * This uses a {@link Multiset} so we can simply add or remove {@link IGridNode} without having to take into account
-     * that others still might exist without explicitly counting these.
+     * Counts the {@link IGridNode} per chunk, keyed by {@link ChunkPos#toLong() packed chunk position}, so we can
+     * simply add or remove nodes without having to take into account that others still might exist.
      */
-    private final Map<LevelAccessor, Multiset<ChunkPos>> chunks;
+    private final Map<LevelAccessor, Long2IntOpenHashMap> chunks;
 
     public StatisticsService(IGrid g) {
         this.grid = g;
@@ -85,16 +87,17 @@ public Set<LevelAccessor> getLevels() {
     }
 
     /**
-     * A set of chunks this grid spans in a specific level.
+     * The chunks this grid spans in a specific level, as {@link ChunkPos#toLong() packed chunk positions}.
      *
      * @param level
      * @return
      */
-    public Set<ChunkPos> chunks(LevelAccessor level) {
-        return this.chunks.get(level).elementSet();
+    public LongSet chunks(LevelAccessor level) {
+        var levelChunks = this.chunks.get(level);
+        return levelChunks != null ? levelChunks.keySet() : LongSet.of();
     }
 
-    public Map<LevelAccessor, Multiset<ChunkPos>> getChunks() {
+    public Map<LevelAccessor, ? extends Long2IntMap> getChunks() {
         return this.chunks;
     }
 
@@ -106,50 +109,53 @@ public Map<LevelAccessor, Multiset<ChunkPos>> getChunks() {
      * @return
      */
     private boolean addChunk(LevelAccessor level, BlockPos pos) {
-        final ChunkPos position = new ChunkPos(pos);
+        var levelChunks = this.chunks.computeIfAbsent(level, l -> new Long2IntOpenHashMap());
+        var chunk = toChunk(pos);
 
-        if (!this.getChunks(level).contains(position)) {
-            this.grid.postEvent(new GridChunkEvent.GridChunkAdded((ServerLevel) level, position));
+        if (levelChunks.addTo(chunk, 1) == 0) {
+            this.grid.postEvent(new GridChunkEvent.GridChunkAdded((ServerLevel) level, new ChunkPos(chunk)));
         }
 
-        return this.getChunks(level).add(position);
+        return true;
     }
 
     /**
      * Remove the chunk of this {@link BlockPos} from the network locations.
      * <p>
-     * This uses a {@link Multiset} to ensure it will only marked as no longer containing a grid once all other
-     * gridnodes are removed as well.
+     * The chunk will only be marked as no longer containing a grid once all other gridnodes are removed as well.
      *
      * @param level
      * @param pos
      * @return
      */
     private boolean removeChunk(LevelAccessor level, BlockPos pos) {
-        final ChunkPos position = new ChunkPos(pos);
-        boolean ret = this.getChunks(level).remove(position);
+        var levelChunks = this.chunks.get(level);
+        if (levelChunks == null) {
+            return false;
+        }
 
-        if (ret && !this.getChunks(level).contains(position)) {
-            this.grid.postEvent(new GridChunkEvent.GridChunkRemoved((ServerLevel) level, position));
+        var chunk = toChunk(pos);
+        var count = levelChunks.get(chunk);
+        if (count <= 0) {
+            return false;
         }
 
-        this.clearLevel(level);
+        if (count > 1) {
+            levelChunks.put(chunk, count - 1);
+        } else {
+            levelChunks.remove(chunk);
+            this.grid.postEvent(new GridChunkEvent.GridChunkRemoved((ServerLevel) level, new ChunkPos(chunk)));
 
-        return ret;
-    }
+            // Cleanup the map in case the grid left a level entirely
+            if (levelChunks.isEmpty()) {
+                this.chunks.remove(level);
+            }
+        }
 
-    private Multiset<ChunkPos> getChunks(LevelAccessor level) {
-        return this.chunks.computeIfAbsent(level, l -> HashMultiset.create());
+        return true;
     }
 
-    /**
-     * Cleanup the map in case a whole level is unloaded
-     *
-     * @param level
-     */
-    private void clearLevel(LevelAccessor level) {
-        if (this.chunks.get(level).isEmpty()) {
-            this.chunks.remove(level);
-        }
+    private static long toChunk(BlockPos pos) {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
     }
 }
@@ -26,8 +26,6 @@
 import java.util.Set;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
@@ -56,9 +54,7 @@ public class StorageService implements IStorageService, IGridServiceProvider {
      * Tracks state for storage providers that are provided by other grid services (i.e. crafting).
      */
     private final List<ProviderState> globalProviders = new ArrayList<>();
-    private final SetMultimap<AEKey, StackWatcher<IStorageWatcherNode>> interests = HashMultimap.create();
-    private final InterestManager<StackWatcher<IStorageWatcherNode>> interestManager = new InterestManager<>(
-            this.interests);
+    private final InterestManager<StackWatcher<IStorageWatcherNode>> interestManager = new InterestManager<>();
     private final NetworkStorage storage;
     /**
      * Publicly exposed cached available stacks.
@@ -69,10 +69,6 @@ public void onServerStartTick() {
         this.currentTick++;
     }
 
-    @Override
-    public void onLevelStartTick(Level level) {
-    }
-
     @Override
     public void onLevelEndTick(Level level) {
         this.tickLevelQueue(level);
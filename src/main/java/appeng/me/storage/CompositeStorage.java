@@ -3,25 +3,37 @@
 import java.util.Map;
 import java.util.Objects;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.network.chat.Component;
 
 import appeng.api.config.Actionable;
+import appeng.api.config.IncludeExclude;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.AEKeyType;
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.MEStorage;
+import appeng.core.AEConfig;
 import appeng.core.localization.GuiText;
+import appeng.util.prioritylist.IPartitionList;
 
 /**
  * Combines several ME storages that each handle only a given key-space.
  */
-public class CompositeStorage implements MEStorage, ITickingMonitor {
+public class CompositeStorage implements MEStorage, ITickingMonitor, IFilterableStorage {
     private final InventoryCache cache;
 
     private Map<AEKeyType, MEStorage> storages;
 
+    /**
+     * If set, the cache only tracks the keys passing this filter.
+     */
+    @Nullable
+    private IPartitionList filter;
+    private IncludeExclude filterMode = IncludeExclude.WHITELIST;
+
     private boolean forceCacheRebuild = true;
 
     public CompositeStorage(Map<AEKeyType, MEStorage> storages) {
@@ -33,6 +45,16 @@ public void setStorages(Map<AEKeyType, MEStorage> storages) {
         this.storages = Objects.requireNonNull(storages);
     }
 
+    /**
+     * Restricts the cached available stacks to the keys passing the given filter. Queries using the same filter are
+     * then answered from the cache, while other queries bypass it. An empty filter is the same as no filter.
+     */
+    public void setFilter(@Nullable IPartitionList filter, IncludeExclude mode) {
+        this.filter = filter != null && !filter.isEmpty() ? filter : null;
+        this.filterMode = mode;
+        this.forceCacheRebuild = true;
+    }
+
     @Override
     public boolean isPreferredStorageFor(AEKey what, IActionSource source) {
         var storage = storages.get(what.getType());
@@ -84,6 +106,10 @@ public Component getDescription() {
 
     @Override
     public TickRateModulation onTick() {
+        if (!forceCacheRebuild && AEConfig.instance().isStorageBusChangeVersionsEnabled() && !pollChanged()) {
+            return TickRateModulation.SLOWER;
+        }
+
         forceCacheRebuild = false;
         boolean changed = this.cache.update();
         if (changed) {
@@ -95,6 +121,46 @@ public TickRateModulation onTick() {
 
     @Override
     public void getAvailableStacks(KeyCounter out) {
+        if (filter != null) {
+            // The cache is missing anything not passing the filter
+            for (var storage : storages.values()) {
+                storage.getAvailableStacks(out);
+            }
+            return;
+        }
+
+        getCachedAvailableStacks(out);
+    }
+
+    @Override
+    public void getAvailableStacks(KeyCounter out, IPartitionList filter, IncludeExclude mode) {
+        var cached = filter.isEmpty() ? this.filter == null : filter == this.filter && mode == this.filterMode;
+        if (cached) {
+            getCachedAvailableStacks(out);
+            return;
+        }
+
+        for (var storage : storages.values()) {
+            IFilterableStorage.getAvailableStacks(storage, out, filter, mode);
+        }
+    }
+
+    /**
+     * Polls the change versions of all storages, so that a rescan can be skipped if none of them changed. Any storage
+     * that is not backed by a platform storage is assumed to always have changed.
+     */
+    private boolean pollChanged() {
+        var changed = false;
+        for (var storage : storages.values()) {
+            // Every storage must be polled to remember its current version
+            if (!(storage instanceof StorageAdapter<?> adapter) || adapter.pollChanged()) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void getCachedAvailableStacks(KeyCounter out) {
         if (forceCacheRebuild) {
             forceCacheRebuild = false;
             cache.update();
@@ -115,7 +181,11 @@ public boolean update() {
 
             // Rebuild the front buffer
             for (var storage : storages.values()) {
-                storage.getAvailableStacks(frontBuffer);
+                if (filter != null) {
+                    IFilterableStorage.getAvailableStacks(storage, frontBuffer, filter, filterMode);
+                } else {
+                    storage.getAvailableStacks(frontBuffer);
+                }
             }
 
             boolean changed = false;
@@ -0,0 +1,37 @@
+package appeng.me.storage;
+
+import appeng.api.config.IncludeExclude;
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.MEStorage;
+import appeng.util.prioritylist.IPartitionList;
+
+/**
+ * Implemented by storages that can apply a partition list themselves while listing their available stacks. Keys that
+ * do not pass the filter are then never converted or counted, instead of being listed only to be discarded.
+ */
+public interface IFilterableStorage {
+
+    /**
+     * Adds only those available stacks to <code>out</code> that pass the given filter in the given mode. See
+     * {@link IPartitionList#matchesFilter}.
+     */
+    void getAvailableStacks(KeyCounter out, IPartitionList filter, IncludeExclude mode);
+
+    /**
+     * Lists the available stacks of any storage that pass the given filter, pushing the filter down into the storage
+     * if it supports that.
+     */
+    static void getAvailableStacks(MEStorage storage, KeyCounter out, IPartitionList filter, IncludeExclude mode) {
+        if (filter.isEmpty()) {
+            storage.getAvailableStacks(out);
+        } else if (storage instanceof IFilterableStorage filterableStorage) {
+            filterableStorage.getAvailableStacks(out, filter, mode);
+        } else {
+            for (var entry : storage.getAvailableStacks()) {
+                if (filter.matchesFilter(entry.getKey(), mode)) {
+                    out.add(entry.getKey(), entry.getLongValue());
+                }
+            }
+        }
+    }
+}
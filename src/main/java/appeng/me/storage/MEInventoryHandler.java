@@ -108,11 +108,8 @@ public void getAvailableStacks(KeyCounter out) {
                     return;
                 }
 
-                for (var entry : getDelegate().getAvailableStacks()) {
-                    if (canExtract(entry.getKey())) {
-                        out.add(entry.getKey(), entry.getLongValue());
-                    }
-                }
+                IFilterableStorage.getAvailableStacks(getDelegate(), out, this.partitionList,
+                        this.partitionListMode);
             }
         } finally {
             this.gettingAvailableContent = false;
@@ -18,10 +18,8 @@
 
 package appeng.me.storage;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
@@ -31,9 +29,16 @@
 import com.google.common.base.Preconditions;
 
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 
 import appeng.api.config.Actionable;
 import appeng.api.config.SecurityPermissions;
+import appeng.api.features.IPlayerRegistry;
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
@@ -45,22 +50,41 @@
  * Manages all available {@link MEStorage} on the network.
  */
 public class NetworkStorage implements MEStorage {
-    private static final ThreadLocal<Deque<NetworkStorage>> DEPTH_MOD = new ThreadLocal<>();
-    private static final ThreadLocal<Deque<NetworkStorage>> DEPTH_SIM = new ThreadLocal<>();
     private static final Comparator<Integer> PRIORITY_SORTER = (o1, o2) -> Integer.compare(o2, o1);
+    /**
+     * Bounds the permission cache, since action sources for players are frequently created per interaction.
+     */
+    private static final int MAX_CACHED_PERMISSIONS = 64;
 
     private boolean mountsInUse;
 
     private static int currentPass = 0;
 
+    // Number of operations currently in progress across all network storages, and the thread performing them.
+    // Network storage is only ever accessed from the server thread, which keeps these plain fields safe.
+    private static int activeModulations;
+    private static int activeSimulations;
+    @Nullable
+    private static Thread activeThread;
+
     private final SecurityService security;
     private final NavigableMap<Integer, List<MEStorage>> priorityInventory;
     private final List<MEStorage> secondPassInventories = new ArrayList<>();
+    // Permissions of recently seen action sources, see getPermissionMask
+    private final Reference2ObjectOpenHashMap<IActionSource, CachedPermissions> permissionCache =
+            new Reference2ObjectOpenHashMap<>();
+    private int permissionCacheVersion = -1;
     private int myPass = 0;
+    // Re-entrancy depth of this storage per mode, used to break storage bus <-> interface loops
+    private int modulationDepth;
+    private int simulationDepth;
     // Queued mount/unmount operations that occurred while an insert/extract was ongoing
     // Is only non-null if something is queued
     @Nullable
     private List<QueuedOperation> queuedOperations;
+    // Storages of the queued unmount operations, to skip them without scanning the queue
+    @Nullable
+    private ReferenceOpenHashSet<MEStorage> queuedRemovals;
 
     public NetworkStorage(SecurityService security) {
         this.security = security;
@@ -85,6 +109,10 @@ public void unmount(MEStorage inventory) {
                 queuedOperations = new ArrayList<>();
             }
             queuedOperations.add(new UnmountOperation(inventory));
+            if (queuedRemovals == null) {
+                queuedRemovals = new ReferenceOpenHashSet<>();
+            }
+            queuedRemovals.add(inventory);
         } else {
             var prioIt = this.priorityInventory.entrySet().iterator();
             while (prioIt.hasNext()) {
@@ -162,6 +190,7 @@ private void flushQueuedOperations() {
         var queuedOperations = this.queuedOperations;
         if (queuedOperations != null) {
             this.queuedOperations = null;
+            this.queuedRemovals = null;
             for (var op : queuedOperations) {
                 if (op instanceof MountOperation mountOp) {
                     mount(mountOp.priority, mountOp.storage);
@@ -175,69 +204,118 @@ private void flushQueuedOperations() {
     }
 
     private boolean isQueuedForRemoval(MEStorage inv) {
-        if (queuedOperations != null) {
-            for (var queuedOperation : queuedOperations) {
-                if (queuedOperation instanceof UnmountOperation unmountOperation && unmountOperation.storage == inv) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return queuedRemovals != null && queuedRemovals.contains(inv);
     }
 
     private boolean diveList(Actionable type) {
-        var cDepth = this.getDepth(type);
-        if (cDepth.contains(this)) {
+        if (getDepth(type) > 0) {
             return true;
         }
 
-        cDepth.push(this);
+        enter(type);
         return false;
     }
 
     private boolean isPermissionDenied(IActionSource src, SecurityPermissions permission) {
-        if (src.player().isPresent()) {
-            if (!this.security.hasPermission(src.player().get(), permission)) {
-                return true;
+        if (!this.security.isAvailable()) {
+            return false;
+        }
+
+        if ((getPermissionMask(src) & SecurityService.PermissionTable.bit(permission)) != 0) {
+            return false;
+        }
+
+        // Whether operators bypass security can change at any time, so it isn't part of the cached permissions
+        var player = src.player();
+        return player.isEmpty() || !SecurityService.ignoresSecurity(player.get());
+    }
+
+    /**
+     * Looks up the permissions of the given source in this network, resolving them only once per source until the
+     * security setup of this grid, or of the grid a machine source is part of, changes.
+     */
+    private int getPermissionMask(IActionSource src) {
+        var version = this.security.getPermissionsVersion();
+        if (this.permissionCacheVersion != version || this.permissionCache.size() >= MAX_CACHED_PERMISSIONS) {
+            this.permissionCache.clear();
+            this.permissionCacheVersion = version;
+        }
+
+        var cached = this.permissionCache.get(src);
+        if (cached == null || !cached.isValidFor(src)) {
+            cached = resolvePermissions(src);
+            if (cached == null) {
+                return 0;
             }
-        } else if (src.machine().isPresent() && this.security.isAvailable()) {
-            var sourceNode = src.machine().get().getActionableNode();
+            this.permissionCache.put(src, cached);
+        }
+        return cached.mask();
+    }
+
+    /**
+     * @return The permissions of the source, or null if it has none and may gain some without any grid changing.
+     */
+    @Nullable
+    private CachedPermissions resolvePermissions(IActionSource src) {
+        var player = src.player();
+        if (player.isPresent()) {
+            if (player.get() instanceof ServerPlayer serverPlayer) {
+                var mask = this.security.getPermissionMask(IPlayerRegistry.getPlayerId(serverPlayer));
+                return new CachedPermissions(mask, null, null, 0);
+            }
+            return new CachedPermissions(0, null, null, 0);
+        }
+
+        var machine = src.machine();
+        if (machine.isPresent()) {
+            var sourceNode = machine.get().getActionableNode();
             if (sourceNode == null) {
-                return true;
+                return null;
             }
 
             var sourceGrid = sourceNode.getGrid();
+            var sg = (SecurityService) sourceGrid.getSecurityService();
+            var mask = SecurityService.PermissionTable.ALL;
             if (sourceGrid != this.security.getGrid()) {
-
-                var sg = sourceGrid.getSecurityService();
                 // If the subnet has a security station, check for its owner. Else check for the owner of the grid node.
                 var playerID = sg.isAvailable() ? sg.getOwner() : sourceNode.getOwningPlayerId();
-
-                if (!this.security.hasPermission(playerID, permission)) {
-                    return true;
-                }
+                mask = this.security.getPermissionMask(playerID);
             }
+            return new CachedPermissions(mask, sourceNode, sourceGrid, sg.getPermissionsVersion());
         }
 
-        return false;
+        return new CachedPermissions(SecurityService.PermissionTable.ALL, null, null, 0);
     }
 
-    private void surface(Actionable type) {
-        if (getDepth(type).pop() != this) {
-            throw new IllegalStateException("Invalid Access to Networked Storage API detected.");
+    private void enter(Actionable type) {
+        if (activeModulations == 0 && activeSimulations == 0) {
+            activeThread = Thread.currentThread();
+        } else {
+            assert activeThread == Thread.currentThread() : "Networked Storage API accessed from multiple threads";
         }
-    }
-
-    private Deque<NetworkStorage> getDepth(Actionable type) {
-        var depth = type == Actionable.MODULATE ? DEPTH_MOD : DEPTH_SIM;
 
-        var s = depth.get();
+        if (type == Actionable.MODULATE) {
+            this.modulationDepth++;
+            activeModulations++;
+        } else {
+            this.simulationDepth++;
+            activeSimulations++;
+        }
+    }
 
-        if (s == null) {
-            depth.set(s = new ArrayDeque<>());
+    private void surface(Actionable type) {
+        var depth = type == Actionable.MODULATE ? --this.modulationDepth : --this.simulationDepth;
+        var active = type == Actionable.MODULATE ? --activeModulations : --activeSimulations;
+        if (depth < 0 || active < 0) {
+            throw new IllegalStateException("Invalid Access to Networked Storage API detected.");
+        }
+        if (activeModulations == 0 && activeSimulations == 0) {
+            activeThread = null;
         }
+    }
 
-        return s;
+    private int getDepth(Actionable type) {
+        return type == Actionable.MODULATE ? this.modulationDepth : this.simulationDepth;
     }
 
     public long extract(AEKey what, long amount, Actionable mode, IActionSource source) {
@@ -293,15 +371,15 @@ public void getAvailableStacks(KeyCounter out) {
     }
 
     private boolean diveIteration(Actionable type) {
-        var cDepth = this.getDepth(type);
-        if (cDepth.isEmpty()) {
+        var active = type == Actionable.MODULATE ? activeModulations : activeSimulations;
+        if (active == 0) {
             currentPass++;
         } else if (currentPass == this.myPass) {
             return true;
         }
         this.myPass = currentPass;
 
-        cDepth.push(this);
+        enter(type);
         return false;
     }
 
@@ -313,6 +391,27 @@ public Component getDescription() {
     sealed interface QueuedOperation permits MountOperation,UnmountOperation {
     }
 
+    /**
+     * The resolved permissions of an action source. For machines, this remembers the node and grid they were resolved
+     * for, since machines can move between grids or have their subnet's security change without this grid changing.
+     */
+    private record CachedPermissions(int mask, @Nullable IGridNode sourceNode, @Nullable IGrid sourceGrid,
+            int sourceVersion) {
+        boolean isValidFor(IActionSource src) {
+            if (sourceNode == null) {
+                return true;
+            }
+
+            var machine = src.machine();
+            if (machine.isEmpty() || machine.get().getActionableNode() != sourceNode) {
+                return false;
+            }
+            var grid = sourceNode.getGrid();
+            return grid == sourceGrid
+                    && ((SecurityService) grid.getSecurityService()).getPermissionsVersion() == sourceVersion;
+        }
+    }
+
     private record MountOperation(int priority, MEStorage storage) implements QueuedOperation {
     }
 
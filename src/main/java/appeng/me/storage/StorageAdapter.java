@@ -5,11 +5,13 @@
 import org.jetbrains.annotations.Nullable;
 
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+import net.fabricmc.fabric.api.transfer.v1.storage.StorageView;
 import net.fabricmc.fabric.api.transfer.v1.storage.TransferVariant;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.network.chat.Component;
 
 import appeng.api.config.Actionable;
+import appeng.api.config.IncludeExclude;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
@@ -17,11 +19,12 @@
 import appeng.core.localization.GuiText;
 import appeng.util.IVariantConversion;
 import appeng.util.Platform;
+import appeng.util.prioritylist.IPartitionList;
 
 /**
  * Adapts platform storage to {@link MEStorage} without monitoring capabilities.
  */
-public class StorageAdapter<V extends TransferVariant<?>> implements MEStorage {
+public class StorageAdapter<V extends TransferVariant<?>> implements MEStorage, IFilterableStorage {
     /**
      * Clamp reported values to avoid overflows when amounts get too close to Long.MAX_VALUE.
      */
@@ -29,6 +32,12 @@
     private final IVariantConversion<V> conversion;
     private boolean extractableOnly;
     private final Supplier<@Nullable Storage<V>> storageSupplier;
+    /**
+     * The storage and its version as seen by the last call to {@link #pollChanged()}.
+     */
+    @Nullable
+    private Storage<V> lastPolledStorage;
+    private long lastPolledVersion;
 
     public StorageAdapter(IVariantConversion<V> conversion, Supplier<@Nullable Storage<V>> storageSupplier) {
         this.conversion = conversion;
@@ -43,6 +52,20 @@ public void setExtractableOnly(boolean extractableOnly) {
         this.extractableOnly = extractableOnly;
     }
 
+    /**
+     * Checks if the contents of the storage may have changed since the last call, based on the change version the
+     * platform storage exposes. Storages that do not track their version return a new one on each call, and are thus
+     * always reported as changed.
+     */
+    public boolean pollChanged() {
+        var storage = this.storageSupplier.get();
+        var version = storage != null ? storage.getVersion() : 0;
+        var changed = storage != lastPolledStorage || version != lastPolledVersion;
+        lastPolledStorage = storage;
+        lastPolledVersion = version;
+        return changed;
+    }
+
     /**
      * Called after successful inject or extract, use to schedule a cache rebuild (storage bus), or rebuild it directly
      * (interface).
@@ -105,34 +128,61 @@ public void getAvailableStacks(KeyCounter out) {
             for (var view : storage) {
                 var resource = view.getResource();
 
-                if (resource.isBlank()) {
+                if (resource.isBlank() || !isAvailable(view, resource)) {
                     continue;
                 }
 
-                // Skip resources that cannot be extracted if that filter was enabled
-                if (extractableOnly) {
-                    try (var tx = Transaction.openOuter()) {
-                        var extracted = view.extract(resource, 1, tx);
-                        // If somehow extracting the minimal amount doesn't work, check if everything could be
-                        // extracted because the tank might have a minimum (or fixed) allowed extraction amount.
-                        // In addition, re-check if the resource is now blank since the inventory may have performed
-                        // cleanup on our failed extraction attempt.
-                        if (extracted == 0) {
-                            extracted = view.extract(resource, view.getAmount(), tx);
-                        }
-                        if (extracted == 0) {
-                            // We weren't able to simulate extraction of any fluid, so skip this one
-                            continue;
-                        }
-                    }
-                }
-
                 long amount = Math.min(view.getAmount(), MAX_REPORTED_AMOUNT);
                 out.add(conversion.getKey(resource), amount);
             }
         }
     }
 
+    @Override
+    public void getAvailableStacks(KeyCounter out, IPartitionList filter, IncludeExclude mode) {
+        var storage = this.storageSupplier.get();
+        if (storage == null) {
+            return;
+        }
+
+        for (var view : storage) {
+            var resource = view.getResource();
+            if (resource.isBlank()) {
+                continue;
+            }
+
+            // Check the filter before the extraction simulation, which is the expensive part
+            var what = conversion.getKey(resource);
+            if (!filter.matchesFilter(what, mode) || !isAvailable(view, resource)) {
+                continue;
+            }
+
+            out.add(what, Math.min(view.getAmount(), MAX_REPORTED_AMOUNT));
+        }
+    }
+
+    /**
+     * Skip resources that cannot be extracted if that filter was enabled.
+     */
+    private boolean isAvailable(StorageView<V> view, V resource) {
+        if (!extractableOnly) {
+            return true;
+        }
+
+        try (var tx = Transaction.openOuter()) {
+            var extracted = view.extract(resource, 1, tx);
+            // If somehow extracting the minimal amount doesn't work, check if everything could be
+            // extracted because the tank might have a minimum (or fixed) allowed extraction amount.
+            // In addition, re-check if the resource is now blank since the inventory may have performed
+            // cleanup on our failed extraction attempt.
+            if (extracted == 0) {
+                extracted = view.extract(resource, view.getAmount(), tx);
+            }
+            // If we weren't able to simulate extraction of any amount, skip this one
+            return extracted != 0;
+        }
+    }
+
     @Override
     public Component getDescription() {
         return GuiText.ExternalStorage.text(conversion.getKeyType().getDescription());
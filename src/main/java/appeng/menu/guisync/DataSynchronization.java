@@ -18,8 +18,13 @@
 
 package appeng.menu.guisync;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
 
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.inventory.AbstractContainerMenu;
@@ -32,35 +37,55 @@
  */
 public class DataSynchronization {
 
-    private final Map<Short, SynchronizedField<?>> fields = new HashMap<>();
+    /**
+     * The synchronized fields of each class are only collected once, since menus are created whenever one is opened.
+     */
+    private static final ClassValue<FieldDescriptor[]> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected FieldDescriptor[] computeValue(Class<?> type) {
+            var descriptors = new ArrayList<FieldDescriptor>();
+            collectFields(type, type, descriptors, new ShortOpenHashSet());
+            return descriptors.toArray(FieldDescriptor[]::new);
+        }
+    };
+
+    private final short[] keys;
+    private final SynchronizedField[] fields;
 
     public DataSynchronization(Object host) {
-        collectFields(host, host.getClass());
+        var descriptors = DESCRIPTORS.get(host.getClass());
+        this.keys = new short[descriptors.length];
+        this.fields = new SynchronizedField[descriptors.length];
+        for (int i = 0; i < descriptors.length; i++) {
+            this.keys[i] = descriptors[i].key();
+            this.fields[i] = descriptors[i].factory().apply(host);
+        }
     }
 
-    private void collectFields(Object host, Class<?> clazz) {
+    private static void collectFields(Class<?> hostClass, Class<?> clazz, List<FieldDescriptor> descriptors,
+            ShortOpenHashSet keys) {
         for (var f : clazz.getDeclaredFields()) {
             if (f.isAnnotationPresent(GuiSync.class)) {
                 var annotation = f.getAnnotation(GuiSync.class);
                 short key = annotation.value();
-                if (this.fields.containsKey(key)) {
+                if (!keys.add(key)) {
                     throw new IllegalStateException(
-                            "Class " + host.getClass() + " declares the same sync id twice: " + key);
+                            "Class " + hostClass + " declares the same sync id twice: " + key);
                 }
-                this.fields.put(key, SynchronizedField.create(host, f));
+                descriptors.add(new FieldDescriptor(key, SynchronizedField.factory(f)));
             }
         }
 
         // Recurse upwards through the class hierarchy
         Class<?> superclass = clazz.getSuperclass();
         if (superclass != AbstractContainerMenu.class && superclass != Object.class) {
-            collectFields(host, superclass);
+            collectFields(hostClass, superclass, descriptors, keys);
         }
     }
 
     public boolean hasChanges() {
-        for (SynchronizedField<?> value : fields.values()) {
-            if (value.hasChanges()) {
+        for (var field : fields) {
+            if (field.hasChanges()) {
                 return true;
             }
         }
@@ -82,10 +107,10 @@ public void writeUpdate(FriendlyByteBuf data) {
     }
 
     private void writeFields(FriendlyByteBuf data, boolean includeUnchanged) {
-        for (Map.Entry<Short, SynchronizedField<?>> entry : fields.entrySet()) {
-            if (includeUnchanged || entry.getValue().hasChanges()) {
-                data.writeShort(entry.getKey());
-                entry.getValue().write(data);
+        for (int i = 0; i < fields.length; i++) {
+            if (includeUnchanged || fields[i].hasChanges()) {
+                data.writeShort(keys[i]);
+                fields[i].write(data);
             }
         }
 
@@ -95,7 +120,7 @@ private void writeFields(FriendlyByteBuf data, boolean includeUnchanged) {
 
     public void readUpdate(FriendlyByteBuf data) {
         for (short key = data.readShort(); key != -1; key = data.readShort()) {
-            SynchronizedField<?> field = fields.get(key);
+            var field = getField(key);
             if (field == null) {
                 AELog.warn("Server sent update for GUI field %d, which we don't know.", key);
                 continue;
@@ -105,10 +130,24 @@ public void readUpdate(FriendlyByteBuf data) {
         }
     }
 
+    @Nullable
+    private SynchronizedField getField(short key) {
+        // Menus only have a handful of synchronized fields
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == key) {
+                return fields[i];
+            }
+        }
+        return null;
+    }
+
     /**
      * @return True if any synchronized fields exist.
      */
     public boolean hasFields() {
-        return !fields.isEmpty();
+        return fields.length > 0;
+    }
+
+    private record FieldDescriptor(short key, Function<Object, SynchronizedField> factory) {
     }
 }
@@ -20,14 +20,16 @@
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
-import com.google.common.base.Preconditions;
+import javax.annotation.Nullable;
 
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.chat.Component;
@@ -37,175 +39,327 @@
 
 /**
  * This class is responsible for synchronizing menu-fields from server to client.
+ * <p/>
+ * The accessors for a field are resolved once per menu class by {@link #factory(Field)}, and fields of a primitive type
+ * remember the value last sent to the client as a primitive, so change detection does not box.
  */
-public abstract class SynchronizedField<T> {
+public abstract class SynchronizedField {
 
-    private final Object source;
+    private static final MethodType REFERENCE_GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType REFERENCE_SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    protected final Object source;
     protected final MethodHandle getter;
     protected final MethodHandle setter;
-    protected T clientVersion;
+    /**
+     * Whether the current value has been sent to the client at least once.
+     */
+    protected boolean sent;
 
-    private SynchronizedField(Object source, Field field) {
-        this.clientVersion = null;
+    private SynchronizedField(Object source, MethodHandle getter, MethodHandle setter) {
         this.source = source;
-        field.setAccessible(true);
-        try {
-            this.getter = MethodHandles.publicLookup().unreflectGetter(field);
-            this.setter = MethodHandles.publicLookup().unreflectSetter(field);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(
-                    "Failed to get accessor for field " + field + ". Did you forget to make it public?");
-        }
+        this.getter = getter;
+        this.setter = setter;
     }
 
-    private T getCurrentValue() {
+    public abstract boolean hasChanges();
+
+    public final void write(FriendlyByteBuf data) {
         try {
-            return (T) this.getter.invoke(source);
+            writeCurrentValue(data);
         } catch (Throwable throwable) {
             throw new RuntimeException(throwable);
         }
-    }
-
-    public boolean hasChanges() {
-        return !Objects.equals(getCurrentValue(), this.clientVersion);
-    }
-
-    public final void write(FriendlyByteBuf data) {
-        T currentValue = getCurrentValue();
-        this.clientVersion = currentValue;
-        this.writeValue(data, currentValue);
+        this.sent = true;
     }
 
     public final void read(FriendlyByteBuf data) {
-        T value = readValue(data);
         try {
-            setter.invoke(source, value);
+            readAndAssign(data);
         } catch (Throwable throwable) {
             throw new RuntimeException(throwable);
         }
     }
 
-    protected abstract void writeValue(FriendlyByteBuf data, T value);
+    /**
+     * Writes the current value of the field and remembers it as the value known to the client.
+     */
+    protected abstract void writeCurrentValue(FriendlyByteBuf data) throws Throwable;
 
-    protected abstract T readValue(FriendlyByteBuf data);
+    /**
+     * Reads a value and assigns it to the field.
+     */
+    protected abstract void readAndAssign(FriendlyByteBuf data) throws Throwable;
 
-    public static SynchronizedField<?> create(Object source, Field field) {
+    /**
+     * Resolves the accessors for the given field and returns a factory that binds them to a menu instance.
+     */
+    public static Function<Object, SynchronizedField> factory(Field field) {
         Class<?> fieldType = field.getType();
 
+        MethodHandle getter;
+        MethodHandle setter;
+        field.setAccessible(true);
+        try {
+            getter = MethodHandles.publicLookup().unreflectGetter(field);
+            setter = MethodHandles.publicLookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(
+                    "Failed to get accessor for field " + field + ". Did you forget to make it public?");
+        }
+
+        if (fieldType.isPrimitive()) {
+            var primitiveGetter = getter.asType(MethodType.methodType(fieldType, Object.class));
+            var primitiveSetter = setter.asType(MethodType.methodType(void.class, Object.class, fieldType));
+            if (fieldType == int.class) {
+                return source -> new IntField(source, primitiveGetter, primitiveSetter);
+            } else if (fieldType == long.class) {
+                return source -> new LongField(source, primitiveGetter, primitiveSetter);
+            } else if (fieldType == double.class) {
+                return source -> new DoubleField(source, primitiveGetter, primitiveSetter);
+            } else if (fieldType == boolean.class) {
+                return source -> new BooleanField(source, primitiveGetter, primitiveSetter);
+            }
+            throw new IllegalArgumentException("Cannot synchronize field " + field);
+        }
+
+        var referenceGetter = getter.asType(REFERENCE_GETTER);
+        var referenceSetter = setter.asType(REFERENCE_SETTER);
         if (PacketWritable.class.isAssignableFrom(fieldType)) {
-            return new CustomField(source, field);
+            if (!fieldType.isRecord()) {
+                throw new RuntimeException("Use records to synchronize custom class on " + field
+                        + " to enable easier equals comparisons");
+            }
+            return source -> new CustomField(source, referenceGetter, referenceSetter, fieldType);
         } else if (fieldType.isAssignableFrom(Component.class)) {
-            return new TextComponentField(source, field);
+            return source -> new TextComponentField(source, referenceGetter, referenceSetter);
         } else if (fieldType.isAssignableFrom(GenericStack.class)) {
-            return new GenericStackField(source, field);
+            return source -> new GenericStackField(source, referenceGetter, referenceSetter);
         } else if (fieldType.isAssignableFrom(ResourceLocation.class)) {
-            return new ResourceLocationField(source, field);
+            return source -> new ResourceLocationField(source, referenceGetter, referenceSetter);
         } else if (fieldType == String.class) {
-            return new StringField(source, field);
-        } else if (fieldType == int.class || fieldType == Integer.class) {
-            return new IntegerField(source, field);
-        } else if (fieldType == long.class || fieldType == Long.class) {
-            return new LongField(source, field);
-        } else if (fieldType == double.class) {
-            return new DoubleField(source, field);
-        } else if (fieldType == boolean.class || fieldType == Boolean.class) {
-            return new BooleanField(source, field);
+            return source -> new StringField(source, referenceGetter, referenceSetter);
+        } else if (fieldType == Integer.class) {
+            return source -> new BoxedField<>(source, referenceGetter, referenceSetter,
+                    FriendlyByteBuf::writeInt, FriendlyByteBuf::readInt);
+        } else if (fieldType == Long.class) {
+            return source -> new BoxedField<>(source, referenceGetter, referenceSetter,
+                    FriendlyByteBuf::writeLong, FriendlyByteBuf::readLong);
+        } else if (fieldType == Boolean.class) {
+            return source -> new BoxedField<>(source, referenceGetter, referenceSetter,
+                    FriendlyByteBuf::writeBoolean, FriendlyByteBuf::readBoolean);
         } else if (fieldType.isEnum()) {
-            return createEnumField(source, field, fieldType.asSubclass(Enum.class));
+            return enumFactory(referenceGetter, referenceSetter, fieldType.asSubclass(Enum.class));
         } else {
             throw new IllegalArgumentException("Cannot synchronize field " + field);
         }
     }
 
-    private static <T extends Enum<T>> EnumField<T> createEnumField(Object source, Field field, Class<T> fieldType) {
-        return new EnumField<>(source, field, fieldType.getEnumConstants());
+    private static <T extends Enum<T>> Function<Object, SynchronizedField> enumFactory(MethodHandle getter,
+            MethodHandle setter, Class<T> fieldType) {
+        var values = fieldType.getEnumConstants();
+        return source -> new EnumField<>(source, getter, setter, values);
     }
 
-    private static class StringField extends SynchronizedField<String> {
-        private StringField(Object source, Field field) {
-            super(source, field);
+    private static class IntField extends SynchronizedField {
+        private int clientVersion;
+
+        private IntField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
         }
 
         @Override
-        protected void writeValue(FriendlyByteBuf data, String value) {
-            data.writeUtf(value);
+        public boolean hasChanges() {
+            try {
+                return !sent || (int) getter.invokeExact(source) != clientVersion;
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
         }
 
         @Override
-        protected String readValue(FriendlyByteBuf data) {
-            return data.readUtf();
+        protected void writeCurrentValue(FriendlyByteBuf data) throws Throwable {
+            clientVersion = (int) getter.invokeExact(source);
+            data.writeInt(clientVersion);
+        }
+
+        @Override
+        protected void readAndAssign(FriendlyByteBuf data) throws Throwable {
+            setter.invokeExact(source, data.readInt());
+        }
+    }
+
+    private static class LongField extends SynchronizedField {
+        private long clientVersion;
+
+        private LongField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
+        }
+
+        @Override
+        public boolean hasChanges() {
+            try {
+                return !sent || (long) getter.invokeExact(source) != clientVersion;
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        @Override
+        protected void writeCurrentValue(FriendlyByteBuf data) throws Throwable {
+            clientVersion = (long) getter.invokeExact(source);
+            data.writeLong(clientVersion);
+        }
+
+        @Override
+        protected void readAndAssign(FriendlyByteBuf data) throws Throwable {
+            setter.invokeExact(source, data.readLong());
+        }
+    }
+
+    private static class DoubleField extends SynchronizedField {
+        private double clientVersion;
+
+        private DoubleField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
+        }
+
+        @Override
+        public boolean hasChanges() {
+            try {
+                // Compare like Double.equals did, so NaN does not count as a change every tick
+                return !sent || Double.doubleToLongBits((double) getter.invokeExact(source)) != Double
+                        .doubleToLongBits(clientVersion);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        @Override
+        protected void writeCurrentValue(FriendlyByteBuf data) throws Throwable {
+            clientVersion = (double) getter.invokeExact(source);
+            data.writeDouble(clientVersion);
+        }
+
+        @Override
+        protected void readAndAssign(FriendlyByteBuf data) throws Throwable {
+            setter.invokeExact(source, data.readDouble());
         }
     }
 
-    private static class IntegerField extends SynchronizedField<Integer> {
-        private IntegerField(Object source, Field field) {
-            super(source, field);
+    private static class BooleanField extends SynchronizedField {
+        private boolean clientVersion;
+
+        private BooleanField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
+        }
+
+        @Override
+        public boolean hasChanges() {
+            try {
+                return !sent || (boolean) getter.invokeExact(source) != clientVersion;
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
         }
 
         @Override
-        protected void writeValue(FriendlyByteBuf data, Integer value) {
-            data.writeInt(value);
+        protected void writeCurrentValue(FriendlyByteBuf data) throws Throwable {
+            clientVersion = (boolean) getter.invokeExact(source);
+            data.writeBoolean(clientVersion);
         }
 
         @Override
-        protected Integer readValue(FriendlyByteBuf data) {
-            return data.readInt();
+        protected void readAndAssign(FriendlyByteBuf data) throws Throwable {
+            setter.invokeExact(source, data.readBoolean());
         }
     }
 
-    private static class LongField extends SynchronizedField<Long> {
-        private LongField(Object source, Field field) {
-            super(source, field);
+    /**
+     * Base class for fields holding an object, which are compared using {@link Object#equals}.
+     */
+    private static abstract class ReferenceField<T> extends SynchronizedField {
+        @Nullable
+        private T clientVersion;
+
+        private ReferenceField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T getCurrentValue() throws Throwable {
+            return (T) (Object) getter.invokeExact(source);
         }
 
         @Override
-        protected void writeValue(FriendlyByteBuf data, Long value) {
-            data.writeLong(value);
+        public boolean hasChanges() {
+            try {
+                return !Objects.equals(getCurrentValue(), this.clientVersion);
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        }
+
+        @Override
+        protected final void writeCurrentValue(FriendlyByteBuf data) throws Throwable {
+            T currentValue = getCurrentValue();
+            this.clientVersion = currentValue;
+            this.writeValue(data, currentValue);
         }
 
         @Override
-        protected Long readValue(FriendlyByteBuf data) {
-            return data.readLong();
+        protected final void readAndAssign(FriendlyByteBuf data) throws Throwable {
+            setter.invokeExact(source, (Object) readValue(data));
         }
+
+        protected abstract void writeValue(FriendlyByteBuf data, T value);
+
+        protected abstract T readValue(FriendlyByteBuf data);
     }
 
-    private static class DoubleField extends SynchronizedField<Double> {
-        private DoubleField(Object source, Field field) {
-            super(source, field);
+    private static class BoxedField<T> extends ReferenceField<T> {
+        private final BiConsumer<FriendlyByteBuf, T> writer;
+        private final Function<FriendlyByteBuf, T> reader;
+
+        private BoxedField(Object source, MethodHandle getter, MethodHandle setter,
+                BiConsumer<FriendlyByteBuf, T> writer, Function<FriendlyByteBuf, T> reader) {
+            super(source, getter, setter);
+            this.writer = writer;
+            this.reader = reader;
         }
 
         @Override
-        protected void writeValue(FriendlyByteBuf data, Double value) {
-            data.writeDouble(value);
+        protected void writeValue(FriendlyByteBuf data, T value) {
+            writer.accept(data, value);
         }
 
         @Override
-        protected Double readValue(FriendlyByteBuf data) {
-            return data.readDouble();
+        protected T readValue(FriendlyByteBuf data) {
+            return reader.apply(data);
         }
     }
 
-    private static class BooleanField extends SynchronizedField<Boolean> {
-        private BooleanField(Object source, Field field) {
-            super(source, field);
+    private static class StringField extends ReferenceField<String> {
+        private StringField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
         }
 
         @Override
-        protected void writeValue(FriendlyByteBuf data, Boolean value) {
-            data.writeBoolean(value);
+        protected void writeValue(FriendlyByteBuf data, String value) {
+            data.writeUtf(value);
         }
 
         @Override
-        protected Boolean readValue(FriendlyByteBuf data) {
-            return data.readBoolean();
+        protected String readValue(FriendlyByteBuf data) {
+            return data.readUtf();
         }
     }
 
-    private static class EnumField<T extends Enum<T>> extends SynchronizedField<T> {
+    private static class EnumField<T extends Enum<T>> extends ReferenceField<T> {
         private final T[] values;
 
-        private EnumField(Object source, Field field, T[] values) {
-            super(source, field);
+        private EnumField(Object source, MethodHandle getter, MethodHandle setter, T[] values) {
+            super(source, getter, setter);
             this.values = values;
         }
 
@@ -229,9 +383,9 @@ protected T readValue(FriendlyByteBuf data) {
         }
     }
 
-    private static class TextComponentField extends SynchronizedField<Component> {
-        private TextComponentField(Object source, Field field) {
-            super(source, field);
+    private static class TextComponentField extends ReferenceField<Component> {
+        private TextComponentField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
         }
 
         @Override
@@ -254,9 +408,9 @@ protected Component readValue(FriendlyByteBuf data) {
         }
     }
 
-    private static class GenericStackField extends SynchronizedField<GenericStack> {
-        private GenericStackField(Object source, Field field) {
-            super(source, field);
+    private static class GenericStackField extends ReferenceField<GenericStack> {
+        private GenericStackField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
         }
 
         @Override
@@ -270,9 +424,9 @@ protected GenericStack readValue(FriendlyByteBuf data) {
         }
     }
 
-    private static class ResourceLocationField extends SynchronizedField<ResourceLocation> {
-        private ResourceLocationField(Object source, Field field) {
-            super(source, field);
+    private static class ResourceLocationField extends ReferenceField<ResourceLocation> {
+        private ResourceLocationField(Object source, MethodHandle getter, MethodHandle setter) {
+            super(source, getter, setter);
         }
 
         @Override
@@ -295,18 +449,13 @@ protected ResourceLocation readValue(FriendlyByteBuf data) {
         }
     }
 
-    private static class CustomField extends SynchronizedField<Object> {
+    private static class CustomField extends ReferenceField<Object> {
         private static final Map<Class<?>, Function<FriendlyByteBuf, Object>> factories = new HashMap<>();
         private final Class<?> fieldType;
 
-        private CustomField(Object source, Field field) {
-            super(source, field);
-            this.fieldType = field.getType();
-            Preconditions.checkArgument(PacketWritable.class.isAssignableFrom(fieldType));
-            if (!fieldType.isRecord()) {
-                throw new RuntimeException("Use records to synchronize custom class on " + field
-                        + " to enable easier equals comparisons");
-            }
+        private CustomField(Object source, MethodHandle getter, MethodHandle setter, Class<?> fieldType) {
+            super(source, getter, setter);
+            this.fieldType = fieldType;
         }
 
         @Override
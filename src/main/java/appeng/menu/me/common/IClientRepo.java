@@ -21,6 +21,8 @@
 import java.util.List;
 import java.util.Set;
 
+import appeng.api.stacks.AEKey;
+
 /**
  * Represents a client-side only repository of {@link GridInventoryEntry} entries that represent the network content
  * currently known to the client. This is actively synchronized by the server via {@link IncrementalUpdateHelper}.
@@ -40,4 +42,17 @@ public interface IClientRepo {
      */
     Set<GridInventoryEntry> getAllEntries();
 
+    /**
+     * @return The amount of the given key stored in the network, as currently known to the client.
+     */
+    default long getStoredAmount(AEKey what) {
+        long amount = 0;
+        for (var entry : getAllEntries()) {
+            if (what.equals(entry.getWhat())) {
+                amount += entry.getStoredAmount();
+            }
+        }
+        return amount;
+    }
+
 }
@@ -549,19 +549,9 @@ protected ItemStack transferStackToMenu(ItemStack input) {
      */
     public boolean hasItemType(ItemStack itemStack, int amount) {
         var clientRepo = getClientRepo();
+        var what = AEItemKey.of(itemStack);
 
-        if (clientRepo != null) {
-            for (var stack : clientRepo.getAllEntries()) {
-                if (AEItemKey.matches(stack.getWhat(), itemStack)) {
-                    if (stack.getStoredAmount() >= amount) {
-                        return true;
-                    }
-                    amount -= stack.getStoredAmount();
-                }
-            }
-        }
-
-        return false;
+        return clientRepo != null && what != null && clientRepo.getStoredAmount(what) >= amount;
     }
 
     /**
@@ -0,0 +1,32 @@
+package appeng.mixins;
+
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+
+import appeng.hooks.ticking.TickHandler;
+
+/**
+ * Notifies us when a chunk starts or stops ticking, so that block entities waiting to be readied in a chunk don't have
+ * to be checked every tick until it does. Fabric has no event for this.
+ */
+@Mixin(ChunkMap.class)
+public class ChunkStatusChangeMixin {
+    @Shadow
+    @Final
+    ServerLevel level;
+
+    @Inject(method = "onFullChunkStatusChange", at = @At("HEAD"))
+    private void onFullChunkStatusChange(ChunkPos chunkPos, ChunkHolder.FullChunkStatus status, CallbackInfo ci) {
+        TickHandler.instance().onChunkStatusChange(level, chunkPos,
+                status.isOrAfter(ChunkHolder.FullChunkStatus.TICKING));
+    }
+}
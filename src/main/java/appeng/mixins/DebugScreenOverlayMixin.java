@@ -0,0 +1,25 @@
+package appeng.mixins;
+
+import java.util.List;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import net.minecraft.client.gui.components.DebugScreenOverlay;
+
+import appeng.client.render.cablebus.CableBusBakedModel;
+
+/**
+ * Shows the cable mesh cache statistics on the debug screen.
+ */
+@Mixin(DebugScreenOverlay.class)
+public class DebugScreenOverlayMixin {
+
+    @Inject(method = "getGameInformation", at = @At("RETURN"))
+    public void addCableMeshCacheInfo(CallbackInfoReturnable<List<String>> cir) {
+        cir.getReturnValue().add(CableBusBakedModel.getCableMeshCacheDebugInfo());
+    }
+
+}
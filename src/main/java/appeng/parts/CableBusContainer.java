@@ -42,7 +42,6 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
@@ -64,7 +63,6 @@
 import appeng.api.util.AEColor;
 import appeng.api.util.DimensionalBlockPos;
 import appeng.client.render.cablebus.CableBusRenderState;
-import appeng.client.render.cablebus.CableCoreType;
 import appeng.core.AELog;
 import appeng.helpers.AEMultiBlockEntity;
 import appeng.hooks.VisualStateSaving;
@@ -112,6 +110,8 @@ public class CableBusContainer implements AEMultiBlockEntity, ICableBusContainer
     // Cached collision shape for anything but living entities
     private VoxelShape cachedCollisionShape;
     private VoxelShape cachedShape;
+    // Client-side only, rebuilt after parts, connections or neighbors changed
+    private CableBusRenderState cachedRenderState;
 
     public CableBusContainer(IPartHost host) {
         this.tcb = host;
@@ -307,6 +307,7 @@ public boolean removePart(IPart part) {
 
     private void updateAfterPartChange(Direction side) {
         this.invalidateShapes();
+        this.invalidateRenderState();
         this.updateDynamicRender();
         this.updateConnections();
         this.markForUpdate();
@@ -533,6 +534,7 @@ public void removeFromWorld() {
         }
 
         this.invalidateShapes();
+        this.invalidateRenderState();
         this.partChanged();
     }
 
@@ -724,6 +726,7 @@ public boolean readFromStream(FriendlyByteBuf data) {
 
         // Updating block entities may change the collision shape
         this.invalidateShapes();
+        this.invalidateRenderState();
 
         return updateBlock;
     }
@@ -763,6 +766,7 @@ public void writeToNBT(CompoundTag data) {
 
     public void readFromNBT(CompoundTag data) {
         invalidateShapes();
+        invalidateRenderState();
 
         if (data.contains("hasRedstone")) {
             this.hasRedstone = YesNo.values()[data.getInt("hasRedstone")];
@@ -856,14 +860,27 @@ private void setRequiresDynamicRender(boolean requiresDynamicRender) {
 
     @Override
     public CableBusRenderState getRenderState() {
+        if (this.cachedRenderState == null) {
+            this.cachedRenderState = createRenderState();
+        }
+        return this.cachedRenderState;
+    }
+
+    /**
+     * Drops the cached render state, which has to be done whenever anything it is derived from changes, including the
+     * cable buses and grid hosts adjacent to this one.
+     */
+    public void invalidateRenderState() {
+        this.cachedRenderState = null;
+    }
+
+    private CableBusRenderState createRenderState() {
         final CablePart cable = (CablePart) this.storage.getCenter();
 
-        final CableBusRenderState renderState = new CableBusRenderState();
+        var renderState = CableBusRenderState.builder();
 
         if (cable != null) {
-            renderState.setCableColor(cable.getCableColor());
-            renderState.setCableType(cable.getCableConnectionType());
-            renderState.setCoreType(CableCoreType.fromCableType(cable.getCableConnectionType()));
+            renderState.cable(cable.getCableConnectionType(), cable.getCableColor());
 
             // Check each outgoing connection for the desired characteristics
             for (var side : Direction.values()) {
@@ -888,15 +905,11 @@ public CableBusRenderState getRenderState() {
                 }
 
                 // Check if the adjacent TE is a cable bus or not
-                if (adjacentHost instanceof CableBusContainer) {
-                    renderState.getCableBusAdjacent().add(side);
-                }
-
-                renderState.getConnectionTypes().put(side, connectionType);
+                renderState.connection(side, connectionType, adjacentHost instanceof CableBusContainer);
             }
         }
 
-        // Determine attachments and facades
+        // Determine attachments
         for (var side : Direction.values()) {
             final IPart part = this.getPart(side);
 
@@ -904,22 +917,11 @@ public CableBusRenderState getRenderState() {
                 continue;
             }
 
-            renderState.getPartModelData().put(side, part.getRenderAttachmentData());
-
-            // This will add the part's bounding boxes to the render state, which is
-            // required for facades
-            final IPartCollisionHelper bch = new BusCollisionHelper(renderState.getBoundingBoxes(), side, true);
-            part.getBoxes(bch);
-
-            int length = (int) part.getCableConnectionLength(null);
-            if (length > 0 && length <= 8) {
-                renderState.getAttachmentConnections().put(side, length);
-            }
-
-            renderState.getAttachments().put(side, part.getStaticModels());
+            renderState.attachment(side, part.getStaticModels(), part.getRenderAttachmentData(),
+                    (int) part.getCableConnectionLength(null));
         }
 
-        return renderState;
+        return renderState.build();
     }
 
     /**
@@ -982,18 +984,7 @@ private void updateNeighborShapeOnSide(Direction side) {
         // Update the shape of the neighbor asynchronously (i.e. for walls)
         var be = getBlockEntity();
         if (be != null && be.getLevel() != null && !be.getLevel().isClientSide()) {
-            TickHandler.instance().addCallable(be.getLevel(), level -> {
-                if (!be.isRemoved()) {
-                    var ourPos = be.getBlockPos();
-                    var neighborPos = ourPos.relative(side);
-                    var neighborState = level.getBlockState(neighborPos);
-                    var ourState = be.getBlockState();
-                    BlockState newNeighborState = neighborState.updateShape(side.getOpposite(), ourState, level,
-                            neighborPos, ourPos);
-                    Block.updateOrDestroy(neighborState, newNeighborState, level, neighborPos, Block.UPDATE_ALL,
-                            Block.UPDATE_LIMIT);
-                }
-            });
+            TickHandler.instance().addNeighborShapeUpdate(be.getLevel(), be.getBlockPos(), side);
         }
     }
 
@@ -97,7 +97,7 @@ public int getLightValue() {
 
     @Override
     public CableBusRenderState getRenderState() {
-        return new CableBusRenderState();
+        return CableBusRenderState.EMPTY;
     }
 
 }
@@ -18,14 +18,21 @@
 
 package appeng.parts;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 
 import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.BitSetDiscreteVoxelShape;
 import net.minecraft.world.phys.shapes.BooleanOp;
+import net.minecraft.world.phys.shapes.CubeVoxelShape;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
@@ -38,9 +45,20 @@
  * <p>
  * To reduce the impact of this on cables, we introduce a global voxel shape cache so that cables can share their
  * combined voxel shapes better.
+ *
+ * <p>
+ * Boxes of parts are almost always aligned to 1/16th of a block. Such lists of boxes are keyed by the set of voxels
+ * they cover, which is independent of the order and overlap of the boxes, and the shape is built directly from those
+ * voxels without combining shapes.
  */
 final class VoxelShapeCache {
 
+    private static final int RESOLUTION = 16;
+
+    private static final Cache<VoxelKey, VoxelShape> VOXEL_CACHE = CacheBuilder.newBuilder()//
+            .maximumSize(10000L)//
+            .build();
+
     // Why using a List here should not make much of a difference vs. using a Set:
     // The part's bounding box depends on the side it is attached to, and the sides
     // are iterated over in a fixed order, meaning the order of bounding boxes
@@ -59,6 +77,19 @@ private VoxelShapeCache() {
     }
 
     public static VoxelShape get(List<AABB> boxes) {
+        if (boxes.isEmpty()) {
+            return Shapes.empty();
+        }
+
+        var voxelKey = VoxelKey.of(boxes);
+        if (voxelKey != null) {
+            try {
+                return VOXEL_CACHE.get(voxelKey, voxelKey::createShape);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
         return CACHE.getUnchecked(boxes);
     }
 
@@ -67,13 +98,94 @@ private static VoxelShape create(List<AABB> boxes) {
             return Shapes.empty();
         }
 
-        int i = 0;
-        VoxelShape shape = Shapes.create(boxes.get(i));
-        for (; i < boxes.size(); i++) {
+        VoxelShape shape = Shapes.create(boxes.get(0));
+        for (int i = 1; i < boxes.size(); i++) {
             AABB box = boxes.get(i);
             shape = Shapes.joinUnoptimized(shape, Shapes.create(box), BooleanOp.OR);
         }
         return shape.optimize();
     }
 
+    /**
+     * The voxels at a resolution of 1/16th of a block covered by a list of boxes.
+     */
+    private static final class VoxelKey {
+        private final long[] bits;
+        private final int hashCode;
+
+        private VoxelKey(long[] bits) {
+            this.bits = bits;
+            this.hashCode = Arrays.hashCode(bits);
+        }
+
+        /**
+         * @return The key for the given boxes, or null if any of them isn't aligned to the voxel grid.
+         */
+        @Nullable
+        static VoxelKey of(List<AABB> boxes) {
+            var bits = new long[RESOLUTION * RESOLUTION * RESOLUTION / Long.SIZE];
+            for (var box : boxes) {
+                int minX = toVoxel(box.minX), minY = toVoxel(box.minY), minZ = toVoxel(box.minZ);
+                int maxX = toVoxel(box.maxX), maxY = toVoxel(box.maxY), maxZ = toVoxel(box.maxZ);
+                if (minX < 0 || minY < 0 || minZ < 0 || maxX < 0 || maxY < 0 || maxZ < 0) {
+                    return null;
+                }
+
+                for (var x = minX; x < maxX; x++) {
+                    for (var y = minY; y < maxY; y++) {
+                        for (var z = minZ; z < maxZ; z++) {
+                            var index = getIndex(x, y, z);
+                            bits[index >>> 6] |= 1L << index;
+                        }
+                    }
+                }
+            }
+            return new VoxelKey(bits);
+        }
+
+        /**
+         * @return The voxel coordinate of the given block-relative coordinate, or -1 if it isn't on the voxel grid.
+         */
+        private static int toVoxel(double coordinate) {
+            var scaled = coordinate * RESOLUTION;
+            var voxel = (int) Math.round(scaled);
+            if (voxel < 0 || voxel > RESOLUTION || Math.abs(scaled - voxel) > 1e-6) {
+                return -1;
+            }
+            return voxel;
+        }
+
+        private static int getIndex(int x, int y, int z) {
+            return (x * RESOLUTION + y) * RESOLUTION + z;
+        }
+
+        VoxelShape createShape() {
+            var voxels = new BitSetDiscreteVoxelShape(RESOLUTION, RESOLUTION, RESOLUTION);
+            var empty = true;
+            for (var x = 0; x < RESOLUTION; x++) {
+                for (var y = 0; y < RESOLUTION; y++) {
+                    for (var z = 0; z < RESOLUTION; z++) {
+                        var index = getIndex(x, y, z);
+                        if ((bits[index >>> 6] & 1L << index) != 0) {
+                            voxels.fill(x, y, z);
+                            empty = false;
+                        }
+                    }
+                }
+            }
+            // Merge the voxels into as few boxes as possible, like the shape built from the individual boxes
+            return empty ? Shapes.empty() : new CubeVoxelShape(voxels).optimize();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof VoxelKey other && this.hashCode == other.hashCode
+                    && Arrays.equals(this.bits, other.bits);
+        }
+    }
 }
@@ -1,7 +1,8 @@
 package appeng.parts.automation;
 
-import java.util.IdentityHashMap;
-import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -54,13 +55,17 @@ public static AEKeyFilter hasExportStrategyFilter() {
         return what -> exportStrategies.getMap().containsKey(what.getType());
     }
 
-    public static Map<AEKeyType, ExternalStorageStrategy> createExternalStorageStrategies(ServerLevel level,
+    /**
+     * @return The key types for which an external storage strategy has been registered.
+     */
+    public static Set<AEKeyType> getExternalStorageKeyTypes() {
+        return externalStorageStrategies.getMap().keySet();
+    }
+
+    @Nullable
+    public static ExternalStorageStrategy createExternalStorageStrategy(AEKeyType type, ServerLevel level,
             BlockPos fromPos, Direction fromSide) {
-        var strategies = new IdentityHashMap<AEKeyType, ExternalStorageStrategy>(
-                externalStorageStrategies.getMap().size());
-        for (var entry : externalStorageStrategies.getMap().entrySet()) {
-            strategies.put(entry.getKey(), entry.getValue().create(level, fromPos, fromSide));
-        }
-        return strategies;
+        var factory = externalStorageStrategies.getMap().get(type);
+        return factory != null ? factory.create(level, fromPos, fromSide) : null;
     }
 }
@@ -45,6 +45,7 @@
 import appeng.core.localization.PlayerMessages;
 import appeng.menu.me.interaction.StackInteractions;
 import appeng.util.Platform;
+import appeng.util.ReadableNumberConverter;
 
 /**
  * A basic subclass for any item monitor like display with an item icon and an amount.
@@ -63,6 +64,7 @@ public abstract class AbstractMonitorPart extends AbstractDisplayPart
     private AEKey configuredItem;
     private long amount;
     private String lastHumanReadableText;
+    private long lastDisplayBucket = Long.MIN_VALUE;
     private boolean isLocked;
     private IStackWatcher myWatcher;
 
@@ -216,6 +218,7 @@ private void configureWatchers() {
 
     private void updateReportingValue(IStorageService storageService) {
         this.lastHumanReadableText = null;
+        this.lastDisplayBucket = Long.MIN_VALUE;
         if (this.configuredItem != null) {
             this.amount = storageService.getCachedInventory().get(this.configuredItem);
         } else {
@@ -236,6 +239,11 @@ public void renderDynamic(float partialTicks, PoseStack poseStack, MultiBufferSo
             return;
         }
 
+        // The item and amount are drawn flat onto the front of the monitor
+        if (!BlockEntityRenderHelper.isFaceVisible(getBlockEntity().getBlockPos(), getSide())) {
+            return;
+        }
+
         poseStack.pushPose();
         poseStack.translate(0.5, 0.5, 0.5); // Move into the center of the block
 
@@ -292,12 +300,20 @@ public void onStackChange(AEKey what, long amount) {
         if (what.equals(this.configuredItem)) {
             this.amount = amount;
 
-            var humanReadableText = what.formatAmount(amount, AmountFormat.SLOT);
-
             // Try throttling to only relevant updates
-            if (!humanReadableText.equals(this.lastHumanReadableText)) {
-                this.lastHumanReadableText = humanReadableText;
-                this.getHost().markForUpdate();
+            if (what instanceof AEItemKey) {
+                // Item amounts are formatted without units, which allows comparing them without formatting
+                var displayBucket = ReadableNumberConverter.getDisplayBucket(Math.max(0, amount), 4);
+                if (displayBucket != this.lastDisplayBucket) {
+                    this.lastDisplayBucket = displayBucket;
+                    this.getHost().markForUpdate();
+                }
+            } else {
+                var humanReadableText = what.formatAmount(amount, AmountFormat.SLOT);
+                if (!humanReadableText.equals(this.lastHumanReadableText)) {
+                    this.lastHumanReadableText = humanReadableText;
+                    this.getHost().markForUpdate();
+                }
             }
         }
     }
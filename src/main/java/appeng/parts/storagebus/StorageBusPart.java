@@ -21,6 +21,7 @@
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -310,8 +311,7 @@ private void updateTarget(boolean forceFullUpdate) {
                 // but it does not return an inventory for the action source, we do NOT fall back to using the external
                 // API, as that might circumvent the security settings, and might also cause performance issues.
             } else {
-                // Query all available external APIs
-                // TODO: If a filter is configured, we might want to only query external APIs for compatible key spaces
+                // Query the external APIs for all key spaces that can pass the filter
                 foundExternalApi = new IdentityHashMap<>(2);
                 findExternalStorages(foundExternalApi);
             }
@@ -350,14 +350,24 @@ private void updateTarget(boolean forceFullUpdate) {
 
         // Apply other settings.
         this.handler.setAccessRestriction(this.getConfigManager().getSetting(Settings.ACCESS));
-        this.handler.setWhitelist(isUpgradedWith(AEItems.INVERTER_CARD) ? IncludeExclude.BLACKLIST
-                : IncludeExclude.WHITELIST);
+        var filterMode = isUpgradedWith(AEItems.INVERTER_CARD) ? IncludeExclude.BLACKLIST
+                : IncludeExclude.WHITELIST;
+        this.handler.setWhitelist(filterMode);
 
-        this.handler.setPartitionList(createFilter());
+        var filter = createFilter();
+        this.handler.setPartitionList(filter);
 
         // Ensure we apply the partition list to the available items.
         boolean filterOnExtract = this.getConfigManager().getSetting(Settings.FILTER_ON_EXTRACT) == YesNo.YES;
-        this.handler.setExtractFiltering(filterOnExtract, isExtractableOnly() && filterOnExtract);
+        boolean filterAvailableContents = isExtractableOnly() && filterOnExtract;
+        this.handler.setExtractFiltering(filterOnExtract, filterAvailableContents);
+
+        // Let external storages skip anything not passing the filter while scanning for changes. An empty filter lets
+        // everything pass, and the unfiltered cache is used instead.
+        if (newInventory instanceof CompositeStorage compositeStorage && filterAvailableContents
+                && !filter.isEmpty()) {
+            compositeStorage.setFilter(filter, filterMode);
+        }
 
         // Let the new inventory react to us ticking.
         if (newInventory instanceof ITickingMonitor tickingMonitor) {
@@ -393,21 +403,51 @@ private IPartitionList createFilter() {
             filterBuilder.fuzzyMode(this.getConfigManager().getSetting(Settings.FUZZY_MODE));
         }
 
-        var slotsToUse = 18 + getInstalledUpgrades(AEItems.CAPACITY_CARD) * 9;
+        var slotsToUse = getFilterSlots();
         for (var x = 0; x < config.size() && x < slotsToUse; x++) {
             filterBuilder.add(config.getKey(x));
         }
         return filterBuilder.build();
     }
 
+    private int getFilterSlots() {
+        return 18 + getInstalledUpgrades(AEItems.CAPACITY_CARD) * 9;
+    }
+
+    /**
+     * If the filter is a whitelist that is applied to both insertion and the available contents, key types that are
+     * not listed can neither be inserted nor seen, and there is no point in attaching to them.
+     */
+    private Set<AEKeyType> getAttachedKeyTypes() {
+        var registeredTypes = StackWorldBehaviors.getExternalStorageKeyTypes();
+        if (isUpgradedWith(AEItems.INVERTER_CARD) || !isExtractableOnly()
+                || this.getConfigManager().getSetting(Settings.FILTER_ON_EXTRACT) != YesNo.YES) {
+            return registeredTypes;
+        }
+
+        var listedTypes = Collections.<AEKeyType>newSetFromMap(new IdentityHashMap<>(2));
+        var slotsToUse = getFilterSlots();
+        for (var x = 0; x < config.size() && x < slotsToUse; x++) {
+            var what = config.getKey(x);
+            if (what != null) {
+                listedTypes.add(what.getType());
+            }
+        }
+        return listedTypes.isEmpty() ? registeredTypes : listedTypes;
+    }
+
     private void findExternalStorages(Map<AEKeyType, MEStorage> storages) {
         var extractableOnly = isExtractableOnly();
-        for (var entry : getExternalStorageStrategies().entrySet()) {
-            var wrapper = entry.getValue().createWrapper(
+        for (var keyType : getAttachedKeyTypes()) {
+            var strategy = getExternalStorageStrategy(keyType);
+            if (strategy == null) {
+                continue;
+            }
+            var wrapper = strategy.createWrapper(
                     extractableOnly,
                     this::invalidateOnExternalStorageChange);
             if (wrapper != null) {
-                storages.put(entry.getKey(), wrapper);
+                storages.put(keyType, wrapper);
             }
         }
     }
@@ -486,15 +526,23 @@ public IPartModel getStaticModels() {
         }
     }
 
-    private Map<AEKeyType, ExternalStorageStrategy> getExternalStorageStrategies() {
+    /**
+     * Strategies are only created for key types the storage bus has been attached to at least once.
+     */
+    @Nullable
+    private ExternalStorageStrategy getExternalStorageStrategy(AEKeyType keyType) {
         if (externalStorageStrategies == null) {
+            externalStorageStrategies = new IdentityHashMap<>(2);
+        }
+        if (!externalStorageStrategies.containsKey(keyType)) {
             var host = getHost().getBlockEntity();
-            this.externalStorageStrategies = StackWorldBehaviors.createExternalStorageStrategies(
+            externalStorageStrategies.put(keyType, StackWorldBehaviors.createExternalStorageStrategy(
+                    keyType,
                     (ServerLevel) host.getLevel(),
                     host.getBlockPos().relative(getSide()),
-                    getSide().getOpposite());
+                    getSide().getOpposite()));
         }
-        return externalStorageStrategies;
+        return externalStorageStrategies.get(keyType);
     }
 
     private enum PendingUpdateStatus {
@@ -85,6 +85,46 @@ public static String format(long number, int width) {
         return slimResult;
     }
 
+    /**
+     * Returns a value that only differs between two numbers if {@link #format(long, int)} might format them
+     * differently. This allows skipping the formatting when checking whether a displayed number needs to be updated.
+     *
+     * @param number to be formatted number
+     * @param width  width limitation of the resulting number
+     */
+    public static long getDisplayBucket(long number, int width) {
+        Preconditions.checkArgument(number >= 0, "Non-negative numbers cannot be formatted by this method");
+
+        int numberSize = getDigits(number);
+        if (numberSize <= width) {
+            return number;
+        }
+
+        // Mirrors the loop in format(long, int), whose result only depends on the exponent and the last quotient.
+        // That quotient is shown divided by the division base with at most one truncated fractional digit.
+        long base = number;
+        long last = base;
+        int exponent = -1;
+        while (numberSize > width) {
+            last = base;
+            base /= DIVISION_BASE;
+            exponent++;
+            numberSize = getDigits(base) + 1;
+        }
+
+        // Negative to keep abbreviated numbers apart from numbers shown in full
+        return -(last / 100 * ENCODED_POSTFIXES.length + exponent) - 1;
+    }
+
+    private static int getDigits(long number) {
+        int digits = 1;
+        while (number >= 10) {
+            number /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
     /**
      * restricts a string representation of a number to a specific width
      *
@@ -18,32 +18,77 @@
 
 package appeng.util.prioritylist;
 
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
 import appeng.api.config.FuzzyMode;
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
 
+/**
+ * Matches keys using fuzzy semantics. When the list is built, the listed keys are indexed by their primary key (i.e.
+ * the item), together with the range of damage values listed for that item.
+ * <p/>
+ * Fuzzy modes only split the damage values of an item into two partitions around a breakpoint, so to check whether any
+ * listed variant falls into the same partition as the input, comparing against the lowest and highest listed damage
+ * value is sufficient.
+ */
 public class FuzzyPriorityList implements IPartitionList {
 
-    private final KeyCounter list;
+    private final Reference2ObjectMap<Object, DamageRange> ranges;
     private final FuzzyMode mode;
+    private final List<AEKey> items;
 
     public FuzzyPriorityList(KeyCounter in, FuzzyMode mode) {
-        this.list = in;
+        this.ranges = new Reference2ObjectOpenHashMap<>();
         this.mode = mode;
+        for (var entry : in) {
+            var key = entry.getKey();
+            var damage = key.getFuzzySearchValue();
+            var range = this.ranges.get(key.getPrimaryKey());
+            if (range == null) {
+                this.ranges.put(key.getPrimaryKey(), new DamageRange(damage, damage));
+            } else if (damage < range.min() || damage > range.max()) {
+                this.ranges.put(key.getPrimaryKey(),
+                        new DamageRange(Math.min(damage, range.min()), Math.max(damage, range.max())));
+            }
+        }
+        this.items = List.copyOf(in.keySet());
     }
 
     @Override
     public boolean isListed(AEKey input) {
-        return !this.list.findFuzzy(input, this.mode).isEmpty();
+        var range = this.ranges.get(input.getPrimaryKey());
+        if (range == null) {
+            return false;
+        }
+
+        // Without range-search support, fuzzy matching only compares the primary key
+        var maxValue = input.getFuzzySearchMaxValue();
+        if (maxValue <= 0 || this.mode == FuzzyMode.IGNORE_ALL) {
+            return true;
+        }
+
+        var breakpoint = this.mode.calculateBreakPoint(maxValue);
+        if (input.getFuzzySearchValue() <= breakpoint) {
+            return range.min() <= breakpoint;
+        } else {
+            return range.max() > breakpoint;
+        }
     }
 
     @Override
     public boolean isEmpty() {
-        return this.list.isEmpty();
+        return this.ranges.isEmpty();
     }
 
     @Override
     public Iterable<AEKey> getItems() {
-        return this.list.keySet();
+        return this.items;
+    }
+
+    private record DamageRange(int min, int max) {
     }
 }
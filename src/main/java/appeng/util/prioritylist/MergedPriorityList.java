@@ -18,34 +18,45 @@
 
 package appeng.util.prioritylist;
 
-import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 
 import appeng.api.stacks.AEKey;
 
+/**
+ * Combines several whitelists and blacklists. The lists are kept in plain arrays, since they are checked far more often
+ * than they are changed.
+ */
 public final class MergedPriorityList implements IPartitionList {
 
-    private final Collection<IPartitionList> positive = new ArrayList<>();
-    private final Collection<IPartitionList> negative = new ArrayList<>();
+    private static final IPartitionList[] NO_LISTS = new IPartitionList[0];
+
+    private IPartitionList[] positive = NO_LISTS;
+    private IPartitionList[] negative = NO_LISTS;
 
     public void addNewList(IPartitionList list, boolean isWhitelist) {
         if (isWhitelist) {
-            this.positive.add(list);
+            this.positive = append(this.positive, list);
         } else {
-            this.negative.add(list);
+            this.negative = append(this.negative, list);
         }
     }
 
+    private static IPartitionList[] append(IPartitionList[] lists, IPartitionList list) {
+        var result = Arrays.copyOf(lists, lists.length + 1);
+        result[lists.length] = list;
+        return result;
+    }
+
     @Override
     public boolean isListed(AEKey input) {
-        for (IPartitionList l : this.negative) {
+        for (var l : this.negative) {
             if (l.isListed(input)) {
                 return false;
             }
         }
 
-        if (!this.positive.isEmpty()) {
-            for (IPartitionList l : this.positive) {
+        if (this.positive.length > 0) {
+            for (var l : this.positive) {
                 if (l.isListed(input)) {
                     return true;
                 }
@@ -59,7 +70,7 @@ public boolean isListed(AEKey input) {
 
     @Override
     public boolean isEmpty() {
-        return this.positive.isEmpty() && this.negative.isEmpty();
+        return this.positive.length == 0 && this.negative.length == 0;
     }
 
     @Override
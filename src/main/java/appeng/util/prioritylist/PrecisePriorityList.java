@@ -18,29 +18,44 @@
 
 package appeng.util.prioritylist;
 
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
 
+/**
+ * Matches keys exactly. The keys are copied into an open hash set when the list is built, so that a check only needs
+ * the cached hash code of the key and a single probe.
+ */
 public class PrecisePriorityList implements IPartitionList {
 
-    private final KeyCounter list;
+    private final ObjectOpenHashSet<AEKey> keys;
+    private final List<AEKey> items;
 
     public PrecisePriorityList(KeyCounter in) {
-        this.list = in;
+        this.keys = new ObjectOpenHashSet<>(in.size());
+        for (var entry : in) {
+            if (entry.getLongValue() > 0) {
+                this.keys.add(entry.getKey());
+            }
+        }
+        this.items = List.copyOf(this.keys);
     }
 
     @Override
     public boolean isListed(AEKey input) {
-        return this.list.get(input) > 0;
+        return this.keys.contains(input);
     }
 
     @Override
     public boolean isEmpty() {
-        return this.list.isEmpty();
+        return this.keys.isEmpty();
     }
 
     @Override
     public Iterable<AEKey> getItems() {
-        return this.list.keySet();
+        return this.items;
     }
 }
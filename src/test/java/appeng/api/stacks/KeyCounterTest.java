@@ -20,6 +20,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -263,6 +264,36 @@ private void assertReturnedDurabilities(AEItemKey filter, FuzzyMode fuzzyMode, i
             expectedDurabilities.sort(Integer::compare);
 
             assertEquals(expectedDurabilities, durabilities);
+            assertTrue(itemList.containsFuzzy(filter, fuzzyMode));
+        }
+
+        @Test
+        void testContainsFuzzyAfterRemovingRange() {
+            var it = itemList.findFuzzy(undamagedFilter, FuzzyMode.PERCENT_50).iterator();
+            while (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+
+            assertFalse(itemList.containsFuzzy(undamagedFilter, FuzzyMode.PERCENT_50));
+            assertTrue(itemList.containsFuzzy(damagedFilter, FuzzyMode.PERCENT_50));
+            assertEquals(50, itemList.size());
+
+            // Re-adding into an emptied damage range must be visible again
+            itemList.add(swords[100], 1);
+            assertTrue(itemList.containsFuzzy(undamagedFilter, FuzzyMode.PERCENT_50));
+        }
+
+        @Test
+        void testCopyIsIndependent() {
+            var copy = new KeyCounter();
+            copy.addAll(itemList);
+            itemList.remove(swords[0], 1);
+            itemList.removeZeros();
+
+            assertEquals(101, copy.size());
+            assertEquals(1, copy.get(swords[0]));
+            assertEquals(0, itemList.get(swords[0]));
         }
 
         private int getDurabilityPercent(AEKey stack) {
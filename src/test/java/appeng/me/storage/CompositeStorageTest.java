@@ -0,0 +1,140 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.IncludeExclude;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.AEKeyType;
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.MEStorage;
+import appeng.util.BootstrapMinecraft;
+import appeng.util.prioritylist.DefaultPriorityList;
+import appeng.util.prioritylist.IPartitionList;
+import appeng.util.prioritylist.PrecisePriorityList;
+
+@BootstrapMinecraft
+class CompositeStorageTest {
+    private final AEKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEKey stick = AEItemKey.of(Items.STICK);
+
+    private final CountingStorage storage = new CountingStorage();
+    private final CompositeStorage composite = new CompositeStorage(Map.of(AEKeyType.items(), storage));
+
+    /**
+     * An unfiltered storage bus passes an empty filter, which must still be served from the cache.
+     */
+    @Test
+    void testUnfilteredIsServedFromCache() {
+        composite.setFilter(DefaultPriorityList.INSTANCE, IncludeExclude.WHITELIST);
+
+        for (int i = 0; i < 3; i++) {
+            var out = new KeyCounter();
+            IFilterableStorage.getAvailableStacks(composite, out, DefaultPriorityList.INSTANCE,
+                    IncludeExclude.WHITELIST);
+            assertThat(out.get(diamond)).isEqualTo(10);
+            assertThat(out.get(stick)).isEqualTo(5);
+
+            out = new KeyCounter();
+            composite.getAvailableStacks(out);
+            assertThat(out.size()).isEqualTo(2);
+        }
+        assertThat(storage.scans).isEqualTo(1);
+    }
+
+    @Test
+    void testWhitelistIsServedFromCache() {
+        var filter = filterOf(diamond);
+        composite.setFilter(filter, IncludeExclude.WHITELIST);
+
+        for (int i = 0; i < 3; i++) {
+            var out = new KeyCounter();
+            IFilterableStorage.getAvailableStacks(composite, out, filter, IncludeExclude.WHITELIST);
+            assertThat(out.size()).isEqualTo(1);
+            assertThat(out.get(diamond)).isEqualTo(10);
+        }
+        assertThat(storage.scans).isEqualTo(1);
+    }
+
+    @Test
+    void testBlacklistIsServedFromCache() {
+        var filter = filterOf(diamond);
+        composite.setFilter(filter, IncludeExclude.BLACKLIST);
+
+        for (int i = 0; i < 3; i++) {
+            var out = new KeyCounter();
+            IFilterableStorage.getAvailableStacks(composite, out, filter, IncludeExclude.BLACKLIST);
+            assertThat(out.size()).isEqualTo(1);
+            assertThat(out.get(stick)).isEqualTo(5);
+        }
+        assertThat(storage.scans).isEqualTo(1);
+    }
+
+    /**
+     * The cache only holds keys passing the filter, so any other query has to go to the storages.
+     */
+    @Test
+    void testOtherQueriesBypassFilteredCache() {
+        composite.setFilter(filterOf(diamond), IncludeExclude.WHITELIST);
+
+        var out = new KeyCounter();
+        composite.getAvailableStacks(out);
+        assertThat(out.size()).isEqualTo(2);
+
+        out = new KeyCounter();
+        IFilterableStorage.getAvailableStacks(composite, out, filterOf(stick), IncludeExclude.WHITELIST);
+        assertThat(out.size()).isEqualTo(1);
+        assertThat(out.get(stick)).isEqualTo(5);
+
+        assertThat(storage.scans).isEqualTo(2);
+    }
+
+    private static IPartitionList filterOf(AEKey... keys) {
+        var listed = new KeyCounter();
+        for (var key : keys) {
+            listed.add(key, 1);
+        }
+        return new PrecisePriorityList(listed);
+    }
+
+    private class CountingStorage implements MEStorage {
+        private int scans;
+
+        @Override
+        public void getAvailableStacks(KeyCounter out) {
+            scans++;
+            out.add(diamond, 10);
+            out.add(stick, 5);
+        }
+
+        @Override
+        public Component getDescription() {
+            return Component.empty();
+        }
+    }
+}
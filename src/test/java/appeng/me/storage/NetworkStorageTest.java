@@ -0,0 +1,134 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.Actionable;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.api.storage.MEStorage;
+import appeng.me.helpers.BaseActionSource;
+import appeng.me.service.SecurityService;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class NetworkStorageTest {
+    private final IActionSource src = new BaseActionSource();
+    private final AEKey diamond = AEItemKey.of(Items.DIAMOND);
+
+    /**
+     * Two networks connected to each other through storage buses on interfaces must not recurse endlessly.
+     */
+    @Test
+    void testNestedLoopsTerminate() {
+        var a = new NetworkStorage(mock(SecurityService.class));
+        var b = new NetworkStorage(mock(SecurityService.class));
+        var sink = new Sink();
+        a.mount(0, new Forwarder(b));
+        b.mount(1, new Forwarder(a));
+        b.mount(0, sink);
+
+        for (var mode : Actionable.values()) {
+            assertEquals(10, a.insert(diamond, 10, mode, src));
+            assertEquals(10, b.insert(diamond, 10, mode, src));
+        }
+        assertEquals(20, sink.stored);
+
+        var available = new KeyCounter();
+        a.getAvailableStacks(available);
+        assertEquals(20, available.get(diamond));
+    }
+
+    @Test
+    void testUnmountDuringInsertIsDeferred() {
+        var network = new NetworkStorage(mock(SecurityService.class));
+        var sink = new Sink();
+        network.mount(1, new MEStorage() {
+            @Override
+            public long insert(AEKey what, long amount, Actionable mode, IActionSource source) {
+                network.unmount(sink);
+                return 0;
+            }
+
+            @Override
+            public Component getDescription() {
+                return Component.empty();
+            }
+        });
+        network.mount(0, sink);
+
+        assertEquals(0, network.insert(diamond, 10, Actionable.MODULATE, src));
+        assertEquals(0, sink.stored);
+        assertEquals(0, network.insert(diamond, 10, Actionable.MODULATE, src));
+    }
+
+    private static class Forwarder implements MEStorage {
+        private final MEStorage target;
+
+        private Forwarder(MEStorage target) {
+            this.target = target;
+        }
+
+        @Override
+        public long insert(AEKey what, long amount, Actionable mode, IActionSource source) {
+            return target.insert(what, amount, mode, source);
+        }
+
+        @Override
+        public void getAvailableStacks(KeyCounter out) {
+            target.getAvailableStacks(out);
+        }
+
+        @Override
+        public Component getDescription() {
+            return Component.empty();
+        }
+    }
+
+    private class Sink implements MEStorage {
+        private long stored;
+
+        @Override
+        public long insert(AEKey what, long amount, Actionable mode, IActionSource source) {
+            if (mode == Actionable.MODULATE) {
+                stored += amount;
+            }
+            return amount;
+        }
+
+        @Override
+        public void getAvailableStacks(KeyCounter out) {
+            out.add(diamond, stored);
+        }
+
+        @Override
+        public Component getDescription() {
+            return Component.empty();
+        }
+    }
+}
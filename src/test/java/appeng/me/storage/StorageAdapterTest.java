@@ -0,0 +1,99 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.IncludeExclude;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.AEKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.util.BootstrapMinecraft;
+import appeng.util.IVariantConversion;
+import appeng.util.prioritylist.DefaultPriorityList;
+import appeng.util.prioritylist.IPartitionList;
+import appeng.util.prioritylist.PrecisePriorityList;
+
+@BootstrapMinecraft
+class StorageAdapterTest {
+    private final AEKey diamond = AEItemKey.of(Items.DIAMOND);
+    private final AEKey stick = AEItemKey.of(Items.STICK);
+
+    private StorageAdapter<?> adapter;
+
+    @BeforeEach
+    void setUp() {
+        var container = new SimpleContainer(3);
+        container.setItem(0, new ItemStack(Items.DIAMOND, 64));
+        container.setItem(1, new ItemStack(Items.DIAMOND, 10));
+        container.setItem(2, new ItemStack(Items.STICK, 5));
+        var storage = InventoryStorage.of(container, null);
+        adapter = new StorageAdapter<>(IVariantConversion.ITEM, () -> storage);
+        adapter.setExtractableOnly(true);
+    }
+
+    @Test
+    void testWhitelist() {
+        var out = getAvailableStacks(filterOf(diamond), IncludeExclude.WHITELIST);
+        assertThat(out.size()).isEqualTo(1);
+        assertThat(out.get(diamond)).isEqualTo(74);
+    }
+
+    @Test
+    void testBlacklist() {
+        var out = getAvailableStacks(filterOf(diamond), IncludeExclude.BLACKLIST);
+        assertThat(out.size()).isEqualTo(1);
+        assertThat(out.get(stick)).isEqualTo(5);
+    }
+
+    @Test
+    void testEmptyFilterMatchesUnfiltered() {
+        var unfiltered = new KeyCounter();
+        adapter.getAvailableStacks(unfiltered);
+
+        for (var mode : IncludeExclude.values()) {
+            var out = getAvailableStacks(DefaultPriorityList.INSTANCE, mode);
+            assertThat(out.size()).isEqualTo(2);
+            assertThat(out.get(diamond)).isEqualTo(unfiltered.get(diamond)).isEqualTo(74);
+            assertThat(out.get(stick)).isEqualTo(unfiltered.get(stick)).isEqualTo(5);
+        }
+    }
+
+    private KeyCounter getAvailableStacks(IPartitionList filter, IncludeExclude mode) {
+        var out = new KeyCounter();
+        adapter.getAvailableStacks(out, filter, mode);
+        return out;
+    }
+
+    private static IPartitionList filterOf(AEKey... keys) {
+        var listed = new KeyCounter();
+        for (var key : keys) {
+            listed.add(key, 1);
+        }
+        return new PrecisePriorityList(listed);
+    }
+}
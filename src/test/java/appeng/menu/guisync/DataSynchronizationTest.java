@@ -0,0 +1,94 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.menu.guisync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.Unpooled;
+
+import net.minecraft.network.FriendlyByteBuf;
+
+import appeng.api.config.YesNo;
+
+class DataSynchronizationTest {
+
+    @Test
+    void testPrimitiveFieldsAreSentOnceUntilChanged() {
+        var server = new Host();
+        var sync = new DataSynchronization(server);
+        assertTrue(sync.hasFields());
+        assertTrue(sync.hasChanges());
+
+        var client = new Host();
+        var clientSync = new DataSynchronization(client);
+        transfer(sync, clientSync, true);
+        assertFalse(sync.hasChanges());
+
+        server.amount = 5;
+        server.progress = Double.NaN;
+        server.mode = YesNo.YES;
+        assertTrue(sync.hasChanges());
+        transfer(sync, clientSync, false);
+        assertFalse(sync.hasChanges());
+
+        assertEquals(5, client.amount);
+        assertEquals(Double.NaN, client.progress);
+        assertEquals(YesNo.YES, client.mode);
+        assertEquals(0, client.inherited);
+    }
+
+    @Test
+    void testDuplicateKeysAreRejected() {
+        assertThrows(IllegalStateException.class, () -> new DataSynchronization(new DuplicateHost()));
+    }
+
+    private static void transfer(DataSynchronization from, DataSynchronization to, boolean full) {
+        var data = new FriendlyByteBuf(Unpooled.buffer());
+        if (full) {
+            from.writeFull(data);
+        } else {
+            from.writeUpdate(data);
+        }
+        to.readUpdate(data);
+    }
+
+    public static class BaseHost {
+        @GuiSync(0)
+        public long inherited;
+    }
+
+    public static class Host extends BaseHost {
+        @GuiSync(1)
+        public int amount;
+        @GuiSync(2)
+        public double progress;
+        @GuiSync(3)
+        public YesNo mode;
+    }
+
+    public static class DuplicateHost extends BaseHost {
+        @GuiSync(0)
+        public boolean flag;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.parts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.BooleanOp;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class VoxelShapeCacheTest {
+
+    private static final AABB CABLE = new AABB(6 / 16.0, 6 / 16.0, 6 / 16.0, 10 / 16.0, 10 / 16.0, 10 / 16.0);
+    private static final AABB CONNECTION = new AABB(6 / 16.0, 6 / 16.0, 0, 10 / 16.0, 10 / 16.0, 6 / 16.0);
+    private static final AABB PART = new AABB(2 / 16.0, 2 / 16.0, 14 / 16.0, 14 / 16.0, 14 / 16.0, 1);
+
+    @Test
+    void testVoxelShapeMatchesJoinedBoxes() {
+        var boxes = List.of(CABLE, CONNECTION, PART);
+        assertSameShape(join(boxes), VoxelShapeCache.get(boxes));
+    }
+
+    @Test
+    void testOrderOfBoxesDoesNotMatter() {
+        assertSame(VoxelShapeCache.get(List.of(CABLE, PART)), VoxelShapeCache.get(List.of(PART, CABLE, PART)));
+    }
+
+    @Test
+    void testBoxesOffTheVoxelGrid() {
+        var boxes = List.of(CABLE, new AABB(0.1, 0.1, 0.1, 0.3, 0.3, 0.3));
+        assertSameShape(join(boxes), VoxelShapeCache.get(boxes));
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(Shapes.empty(), VoxelShapeCache.get(List.of()));
+    }
+
+    private static VoxelShape join(List<AABB> boxes) {
+        var shape = Shapes.empty();
+        for (var box : boxes) {
+            shape = Shapes.or(shape, Shapes.create(box));
+        }
+        return shape;
+    }
+
+    private static void assertSameShape(VoxelShape expected, VoxelShape actual) {
+        assertFalse(Shapes.joinIsNotEmpty(expected, actual, BooleanOp.NOT_SAME), expected + " != " + actual);
+    }
+}
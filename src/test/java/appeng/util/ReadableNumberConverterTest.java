@@ -101,4 +101,37 @@ public void testFormatLong(int width, long number, String expected) {
     public void testFormatDouble(int width, double number, String expected) {
         assertEquals(expected, ReadableNumberConverter.format(number, width));
     }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 0, 9_000, 99_000, 999_000, 9_999_000, 99_999_000, 155_555_000, 999_999_000,
+            Long.MAX_VALUE - 2_001 })
+    public void testDisplayBucketChangesWithFormat(long start) {
+        for (var width = 3; width <= 4; width++) {
+            var previous = ReadableNumberConverter.format(start, width);
+            var previousBucket = ReadableNumberConverter.getDisplayBucket(start, width);
+            for (var number = start + 1; number <= start + 2_000; number++) {
+                var formatted = ReadableNumberConverter.format(number, width);
+                var bucket = ReadableNumberConverter.getDisplayBucket(number, width);
+                if (bucket == previousBucket) {
+                    assertEquals(previous, formatted, "Bucket of " + number + " did not change");
+                }
+                previous = formatted;
+                previousBucket = bucket;
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(value = {
+            "4|9999|9998|false",
+            "4|10000|10099|true",
+            "4|10000|10100|false",
+            "4|155000|155099|true",
+            "4|9900000|9999999|true",
+            "4|9800000|9900000|false",
+    }, delimiter = '|')
+    public void testDisplayBucketGranularity(int width, long a, long b, boolean same) {
+        assertEquals(same, ReadableNumberConverter.getDisplayBucket(a, width) == ReadableNumberConverter
+                .getDisplayBucket(b, width));
+    }
 }
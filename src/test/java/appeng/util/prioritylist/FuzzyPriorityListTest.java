@@ -0,0 +1,72 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.prioritylist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.stacks.AEItemKey;
+import appeng.api.stacks.KeyCounter;
+import appeng.util.BootstrapMinecraft;
+
+@BootstrapMinecraft
+class FuzzyPriorityListTest {
+
+    /**
+     * The compiled list must agree with a fuzzy search over the listed keys for every damage value and mode.
+     */
+    @Test
+    void testMatchesFuzzySearch() {
+        var listed = new KeyCounter();
+        listed.add(diamondSword(10), 1);
+        listed.add(diamondSword(80), 1);
+
+        for (var mode : FuzzyMode.values()) {
+            var list = new FuzzyPriorityList(listed, mode);
+            for (var durability = 0; durability <= 100; durability++) {
+                var input = diamondSword(durability);
+                assertEquals(listed.containsFuzzy(input, mode), list.isListed(input),
+                        "mode " + mode + ", durability " + durability);
+            }
+        }
+    }
+
+    @Test
+    void testIgnoresOtherItems() {
+        var listed = new KeyCounter();
+        listed.add(diamondSword(100), 1);
+        var list = new FuzzyPriorityList(listed, FuzzyMode.IGNORE_ALL);
+
+        assertThat(list.isListed(AEItemKey.of(Items.IRON_SWORD))).isFalse();
+        assertThat(list.isListed(AEItemKey.of(Items.DIAMOND_SWORD))).isTrue();
+        assertThat(list.getItems()).containsOnly(diamondSword(100));
+    }
+
+    private AEItemKey diamondSword(int durabilityPercent) {
+        var is = new ItemStack(Items.DIAMOND_SWORD);
+        is.setDamageValue((int) ((100 - durabilityPercent) / 100.0f * is.getMaxDamage()));
+        return AEItemKey.of(is);
+    }
+}